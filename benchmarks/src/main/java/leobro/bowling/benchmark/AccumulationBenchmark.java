@@ -0,0 +1,87 @@
+package leobro.bowling.benchmark;
+
+import leobro.bowling.Frame;
+import leobro.bowling.Game;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the accumulated scores under different patterns of reading them: rolls with no reads, a read of the whole
+ * table after the game, a read of the whole table after every roll as a live display does, and reads of a table which
+ * does not change. Every invocation of the rolling benchmarks plays a whole game of random rolls in a reset game.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AccumulationBenchmark {
+
+	private static final int SERIES = 64;
+
+	private final Game game = new Game(Collections.singletonList("Player"));
+	private final Game finishedGame = new Game(Collections.singletonList("Player"));
+	private final int[][] series = new int[SERIES][];
+	private int next;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		for (int i = 0; i < SERIES; i++) {
+			series[i] = RollSeries.random(random);
+		}
+		finishedGame.rollAll(series[0], 0, series[0].length);
+	}
+
+	@Benchmark
+	public int rollsWithoutReads() {
+		int[] rolls = nextSeries();
+		for (int pins : rolls) {
+			game.roll(pins);
+		}
+		return game.getPlayerScore(0);
+	}
+
+	@Benchmark
+	public int rollsWithReadAtEnd() {
+		int[] rolls = nextSeries();
+		for (int pins : rolls) {
+			game.roll(pins);
+		}
+		return sumAccumulatedScores(game.getPlayerResultsTable(0));
+	}
+
+	@Benchmark
+	public int rollsWithReadAfterEveryRoll() {
+		int[] rolls = nextSeries();
+		Frame[] frames = game.getPlayerResultsTable(0);
+		int sum = 0;
+		for (int pins : rolls) {
+			game.roll(pins);
+			sum += sumAccumulatedScores(frames);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int readsWithoutRolls() {
+		return sumAccumulatedScores(finishedGame.getPlayerResultsTable(0));
+	}
+
+	private int[] nextSeries() {
+		game.reset();
+		return series[next++ & (SERIES - 1)];
+	}
+
+	private static int sumAccumulatedScores(Frame[] frames) {
+		int sum = 0;
+		for (Frame frame : frames) {
+			sum += frame.getAccumulatedScore();
+		}
+		return sum;
+	}
+}
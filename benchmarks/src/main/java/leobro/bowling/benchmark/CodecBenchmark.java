@@ -0,0 +1,98 @@
+package leobro.bowling.benchmark;
+
+import leobro.bowling.Game;
+import leobro.bowling.GameCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link GameCodec} with Java serialization of the same data: the player names and the rolls of every
+ * player of a finished four-player game. The archive sizes of both are printed during the setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CodecBenchmark {
+
+	private static final int PLAYERS = 4;
+
+	private Game game;
+	private ByteBuffer buffer;
+	private ByteBuffer encoded;
+	private ArchivedGame archived;
+	private byte[] serialized;
+
+	static class ArchivedGame implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		ArrayList<String> names;
+		int[][] rolls;
+	}
+
+	@Setup
+	public void setUp() throws IOException {
+		List<String> names = new ArrayList<>();
+		int[][] rolls = new int[PLAYERS][];
+		Random random = new Random(42);
+		for (int i = 0; i < PLAYERS; i++) {
+			names.add("Player " + i);
+			rolls[i] = RollSeries.random(random);
+		}
+
+		game = new Game(names);
+		for (int pins : RollSeries.interleave(rolls)) {
+			game.roll(pins);
+		}
+
+		buffer = ByteBuffer.allocate(GameCodec.encodedSize(game));
+		encoded = ByteBuffer.allocate(buffer.capacity());
+		GameCodec.encode(game, encoded);
+		encoded.flip();
+
+		archived = new ArchivedGame();
+		archived.names = new ArrayList<>(names);
+		archived.rolls = rolls;
+		serialized = javaSerialize();
+
+		System.out.println("Codec: " + encoded.remaining() + " bytes, Java serialization: " + serialized.length
+				+ " bytes");
+	}
+
+	@Benchmark
+	public ByteBuffer codecEncode() {
+		buffer.clear();
+		GameCodec.encode(game, buffer);
+		return buffer;
+	}
+
+	@Benchmark
+	public Game codecDecode() {
+		return GameCodec.decode(encoded.duplicate());
+	}
+
+	@Benchmark
+	public byte[] javaSerialize() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+			output.writeObject(archived);
+		}
+		return bytes.toByteArray();
+	}
+
+	@Benchmark
+	public Object javaDeserialize() throws IOException, ClassNotFoundException {
+		try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+			return input.readObject();
+		}
+	}
+}
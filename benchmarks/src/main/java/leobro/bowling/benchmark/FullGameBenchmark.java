@@ -0,0 +1,82 @@
+package leobro.bowling.benchmark;
+
+import leobro.bowling.Game;
+import leobro.bowling.TableScorer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates whole one-player games, including creation of the game: the perfect game, the all-gutters game and
+ * random games. The random games are also registered as one batch and scored by {@link TableScorer}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FullGameBenchmark {
+
+	private static final int RANDOM_GAMES = 1024;
+
+	private final List<String> names = Collections.singletonList("Player");
+	private final int[] perfect = RollSeries.perfect();
+	private final int[] gutters = RollSeries.gutters();
+	private final TableScorer scorer = new TableScorer();
+	private int[][] random;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		Random generator = new Random(42);
+		random = new int[RANDOM_GAMES][];
+		for (int i = 0; i < RANDOM_GAMES; i++) {
+			random[i] = RollSeries.random(generator);
+		}
+	}
+
+	@Benchmark
+	public Game perfectGame() {
+		return play(perfect);
+	}
+
+	@Benchmark
+	public Game gutterGame() {
+		return play(gutters);
+	}
+
+	@Benchmark
+	public Game randomGame() {
+		return play(random[next++ & (RANDOM_GAMES - 1)]);
+	}
+
+	@Benchmark
+	public Game randomGameInBatch() {
+		int[] rolls = random[next++ & (RANDOM_GAMES - 1)];
+		Game game = new Game(names);
+		game.rollAll(rolls, 0, rolls.length);
+		return game;
+	}
+
+	@Benchmark
+	public int randomGameWithTable() {
+		int[] rolls = random[next++ & (RANDOM_GAMES - 1)];
+		scorer.reset();
+		for (int pins : rolls) {
+			scorer.roll(pins);
+		}
+		return scorer.getScore();
+	}
+
+	private Game play(int[] rolls) {
+		Game game = new Game(names);
+		for (int pins : rolls) {
+			game.roll(pins);
+		}
+		return game;
+	}
+}
@@ -0,0 +1,91 @@
+package leobro.bowling.benchmark;
+
+import leobro.bowling.engine.GameEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load harness for {@link GameEngine}: several threads act as lane controllers, each playing whole two-player
+ * games on its own lanes. Run with {@code -t} to change the count of feeding threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class GameEngineBenchmark {
+
+	private static final int LANES_PER_THREAD = 64;
+	private static final int GAME_VARIANTS = 64;
+
+	@State(Scope.Benchmark)
+	public static class Engine {
+
+		GameEngine engine;
+		final AtomicInteger threads = new AtomicInteger();
+
+		@Setup
+		public void setUp() {
+			engine = new GameEngine();
+		}
+
+		@TearDown
+		public void tearDown() {
+			engine.close();
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Lanes {
+
+		final List<String> names = Arrays.asList("First", "Second");
+		String[] laneIds;
+		int[][] games;
+		int next;
+
+		@Setup
+		public void setUp(Engine engine) {
+			int thread = engine.threads.getAndIncrement();
+			laneIds = new String[LANES_PER_THREAD];
+			for (int i = 0; i < LANES_PER_THREAD; i++) {
+				laneIds[i] = "lane-" + thread + "-" + i;
+			}
+
+			Random random = new Random(thread);
+			games = new int[GAME_VARIANTS][];
+			for (int i = 0; i < GAME_VARIANTS; i++) {
+				games[i] = RollSeries.interleave(new int[][] { RollSeries.random(random), RollSeries.random(random) });
+			}
+		}
+	}
+
+	/**
+	 * One operation is a whole game on every lane of the thread; the rolls of all lanes are interleaved.
+	 */
+	@Benchmark
+	public void gamesOnAllLanes(Engine engine, Lanes lanes) {
+		int[][] games = new int[LANES_PER_THREAD][];
+		CompletableFuture<?>[] last = new CompletableFuture<?>[LANES_PER_THREAD];
+
+		for (int lane = 0; lane < LANES_PER_THREAD; lane++) {
+			games[lane] = lanes.games[lanes.next++ & (GAME_VARIANTS - 1)];
+			engine.engine.startGame(lanes.laneIds[lane], lanes.names);
+		}
+
+		for (int roll = 0; roll < 42; roll++) {
+			for (int lane = 0; lane < LANES_PER_THREAD; lane++) {
+				if (roll < games[lane].length) {
+					last[lane] = engine.engine.roll(lanes.laneIds[lane], games[lane][roll]);
+				}
+			}
+		}
+		CompletableFuture.allOf(last).join();
+	}
+}
@@ -0,0 +1,60 @@
+package leobro.bowling.benchmark;
+
+import leobro.bowling.Game;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Game#roll(int)} throughput for games with different number of players. Every invocation plays
+ * a whole game with random results from a fixed set of pre-generated games.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameRollBenchmark {
+
+	private static final int GAME_VARIANTS = 64;
+
+	@Param({"1", "2", "4", "8"})
+	private int players;
+
+	private List<String> names;
+	private int[][] games;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		names = new ArrayList<>();
+		for (int i = 0; i < players; i++) {
+			names.add("Player " + i);
+		}
+
+		Random random = new Random(42);
+		games = new int[GAME_VARIANTS][];
+		for (int i = 0; i < GAME_VARIANTS; i++) {
+			int[][] series = new int[players][];
+			for (int player = 0; player < players; player++) {
+				series[player] = RollSeries.random(random);
+			}
+			games[i] = RollSeries.interleave(series);
+		}
+	}
+
+	@Benchmark
+	public Game randomGame() {
+		int[] rolls = games[next++ & (GAME_VARIANTS - 1)];
+		Game game = new Game(names);
+
+		for (int pins : rolls) {
+			game.roll(pins);
+		}
+		return game;
+	}
+}
@@ -0,0 +1,23 @@
+package leobro.bowling.benchmark;
+
+import leobro.bowling.GameSpace;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the enumeration of the whole game space. Run with {@code -Djava.util.concurrent.ForkJoinPool.common.parallelism}
+ * set to different values in {@code -jvmArgs} to see the scaling with cores.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameSpaceBenchmark {
+
+	@Benchmark
+	public GameSpace enumerate() {
+		return GameSpace.enumerate();
+	}
+}
@@ -0,0 +1,117 @@
+package leobro.bowling.benchmark;
+
+import leobro.bowling.Game;
+import leobro.bowling.journal.RollJournal;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures sustained appending of rolls to {@link RollJournal} and recovery of 100 000 games in progress.
+ */
+@Fork(1)
+public class JournalBenchmark {
+
+	private static final List<String> NAMES = Collections.singletonList("Player");
+
+	@State(Scope.Thread)
+	public static class Appending {
+
+		private static final int GAMES = 1024;
+
+		Path file;
+		RollJournal journal;
+		Game[] games;
+		int[][] rolls;
+		int[] positions;
+		int next;
+
+		@Setup
+		public void setUp() throws IOException {
+			file = Files.createTempFile("rolls", ".journal");
+			journal = RollJournal.open(file);
+			games = new Game[GAMES];
+			rolls = new int[GAMES][];
+			positions = new int[GAMES];
+
+			Random random = new Random(42);
+			for (int i = 0; i < GAMES; i++) {
+				rolls[i] = RollSeries.random(random);
+				games[i] = new Game(NAMES);
+				journal.gameStarted(i, games[i]);
+			}
+		}
+
+		@TearDown
+		public void tearDown() throws IOException {
+			journal.close();
+			Files.delete(file);
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class Recovery {
+
+		private static final int GAMES = 100_000;
+		private static final int ROLLS_PER_GAME = 10;
+
+		Path file;
+
+		@Setup
+		public void setUp() throws IOException {
+			file = Files.createTempFile("recovery", ".journal");
+			Random random = new Random(42);
+
+			try (RollJournal journal = RollJournal.open(file)) {
+				for (int i = 0; i < GAMES; i++) {
+					Game game = new Game(NAMES);
+					journal.gameStarted(i, game);
+					int[] rolls = RollSeries.random(random);
+					for (int roll = 0; roll < ROLLS_PER_GAME; roll++) {
+						journal.roll(i, game, rolls[roll]);
+					}
+				}
+			}
+		}
+
+		@TearDown
+		public void tearDown() throws IOException {
+			Files.delete(file);
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Warmup(iterations = 3, time = 1)
+	@Measurement(iterations = 5, time = 1)
+	public void appendRoll(Appending state) throws IOException {
+		int index = state.next++ & (Appending.GAMES - 1);
+		Game game = state.games[index];
+
+		if (!game.isGameActive()) {
+			state.journal.gameFinished(index);
+			game = new Game(NAMES);
+			state.games[index] = game;
+			state.positions[index] = 0;
+			state.journal.gameStarted(index, game);
+		}
+		state.journal.roll(index, game, state.rolls[index][state.positions[index]++]);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 2)
+	@Measurement(iterations = 5)
+	public Map<Long, Game> recover(Recovery state) throws IOException {
+		return RollJournal.recover(state.file);
+	}
+}
@@ -0,0 +1,76 @@
+package leobro.bowling.benchmark;
+
+import leobro.bowling.Game;
+import leobro.bowling.Leaderboard;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the queries of a {@link Leaderboard} following 10 000 finished one-player games, and the cost it adds
+ * to a roll.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LeaderboardBenchmark {
+
+	private static final int GAMES = 10_000;
+
+	private final List<String> names = Arrays.asList("Player");
+	private Leaderboard leaderboard;
+	private Game[] games;
+	private int[][] rolls;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		leaderboard = new Leaderboard();
+		games = new Game[GAMES];
+		rolls = new int[GAMES][];
+		Random random = new Random(42);
+
+		for (int i = 0; i < GAMES; i++) {
+			rolls[i] = RollSeries.random(random);
+			games[i] = new Game(names);
+			leaderboard.track(games[i]);
+			games[i].rollAll(rolls[i], 0, rolls[i].length);
+		}
+	}
+
+	@Benchmark
+	public int rank() {
+		return leaderboard.getRank(games[next++ % GAMES], 0);
+	}
+
+	@Benchmark
+	public List<Leaderboard.Standing> top10() {
+		return leaderboard.getTop(10);
+	}
+
+	@Benchmark
+	public List<Leaderboard.Standing> leaders() {
+		return leaderboard.getLeaders();
+	}
+
+	/**
+	 * Replaces one of the games with a new one and plays it while the leaderboard follows it.
+	 */
+	@Benchmark
+	public Game trackedGame() {
+		int index = next++ % GAMES;
+		leaderboard.untrack(games[index]);
+
+		Game game = new Game(names);
+		leaderboard.track(game);
+		game.rollAll(rolls[index], 0, rolls[index].length);
+		games[index] = game;
+		return game;
+	}
+}
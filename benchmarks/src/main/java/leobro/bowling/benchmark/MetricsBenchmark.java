@@ -0,0 +1,52 @@
+package leobro.bowling.benchmark;
+
+import leobro.bowling.Game;
+import leobro.bowling.GameMetrics;
+import leobro.bowling.LongAdderMetrics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of the metrics on registering one roll, compared with the metrics switched off. Like
+ * {@link RollBenchmark}, every invocation plays a whole one-player open game. Run it with several threads
+ * ({@code -t 4}) to see the contention on the shared counters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+
+	private static final int OPEN_GAME_ROLLS = 20;
+
+	@Param({"none", "longAdder"})
+	public String metrics;
+
+	private final List<String> names = Collections.singletonList("Player");
+
+	@Setup
+	public void setUp() {
+		Game.setMetrics("none".equals(metrics) ? GameMetrics.NONE : new LongAdderMetrics());
+	}
+
+	@TearDown
+	public void tearDown() {
+		Game.setMetrics(GameMetrics.NONE);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPEN_GAME_ROLLS)
+	public Game openGame() {
+		Game game = new Game(names);
+		for (int i = 0; i < OPEN_GAME_ROLLS / 2; i++) {
+			game.roll(4);
+			game.roll(5);
+		}
+		return game;
+	}
+}
@@ -0,0 +1,102 @@
+package leobro.bowling.benchmark;
+
+import leobro.bowling.Game;
+import leobro.bowling.OffHeapGameStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares 200 000 two-player games in progress kept as {@link Game} objects on the heap and as records of
+ * {@link OffHeapGameStore}: the cost of a roll into a random game, and the pause of a full garbage collection with
+ * the games alive. The heap and off-heap footprint of the games is printed in the setup.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class OffHeapBenchmark {
+
+	private static final int GAMES = 200_000;
+	private static final List<String> NAMES = Arrays.asList("Home", "Away");
+
+	@Param({"heap", "offHeap"})
+	public String model;
+
+	private Game[] games;
+	private OffHeapGameStore store;
+	private int[] ids;
+	private SplittableRandom random;
+
+	@Setup
+	public void setUp() {
+		random = new SplittableRandom(42);
+		long heapBefore = usedHeap();
+
+		if (model.equals("heap")) {
+			games = new Game[GAMES];
+			for (int i = 0; i < GAMES; i++) {
+				games[i] = new Game(NAMES);
+				for (int roll = random.nextInt(40); roll > 0 && games[i].isGameActive(); roll--) {
+					games[i].roll(random.nextInt(games[i].getPinsStanding() + 1));
+				}
+			}
+		} else {
+			store = new OffHeapGameStore(GAMES, NAMES.size());
+			ids = new int[GAMES];
+			for (int i = 0; i < GAMES; i++) {
+				ids[i] = store.startGame(NAMES);
+				for (int roll = random.nextInt(40); roll > 0 && store.isGameActive(ids[i]); roll--) {
+					store.roll(ids[i], random.nextInt(store.getPinsStanding(ids[i]) + 1));
+				}
+			}
+		}
+
+		System.out.printf("%n%s: %d games take %.1f MB of heap and %.1f MB off the heap%n", model, GAMES,
+				(usedHeap() - heapBefore) / 1048576.0, store == null ? 0 : store.getFootprint() / 1048576.0);
+	}
+
+	private static long usedHeap() {
+		System.gc();
+		return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.NANOSECONDS)
+	@Warmup(iterations = 3, time = 1)
+	@Measurement(iterations = 5, time = 1)
+	public int roll() {
+		int i = random.nextInt(GAMES);
+
+		if (games != null) {
+			Game game = games[i];
+			if (!game.isGameActive()) {
+				game = new Game(NAMES);
+				games[i] = game;
+			}
+			game.roll(random.nextInt(game.getPinsStanding() + 1));
+			return game.getNextPlayer();
+		}
+
+		int id = ids[i];
+		if (!store.isGameActive(id)) {
+			store.release(id);
+			id = store.startGame(NAMES);
+			ids[i] = id;
+		}
+		store.roll(id, random.nextInt(store.getPinsStanding(id) + 1));
+		return store.getNextPlayer(id);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 2)
+	@Measurement(iterations = 10)
+	public void fullGc() {
+		System.gc();
+	}
+}
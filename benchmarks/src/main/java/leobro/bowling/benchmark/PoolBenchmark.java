@@ -0,0 +1,47 @@
+package leobro.bowling.benchmark;
+
+import leobro.bowling.Game;
+import leobro.bowling.GamePool;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of starting a four-player game: creating a new game, or acquiring a game from a warmed-up
+ * {@link GamePool} and releasing it. The allocation rate of the pooled variant should be zero.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PoolBenchmark {
+
+	private final List<String> names = Arrays.asList("A", "B", "C", "D");
+	private final GamePool pool = new GamePool();
+
+	@Benchmark
+	public Game newGame() {
+		Game game = new Game(names);
+		game.roll(10);
+		return game;
+	}
+
+	@Benchmark
+	public Game pooledGame() {
+		Game game = pool.acquire(names);
+		game.roll(10);
+		pool.release(game);
+		return game;
+	}
+
+	@TearDown
+	public void checkHitRate() {
+		if (pool.getAcquireCount() > 1 && pool.getAllocationCount() != 1) {
+			throw new IllegalStateException("The pool allocated " + pool.getAllocationCount() + " games");
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package leobro.bowling.benchmark;
+
+import leobro.bowling.Game;
+import leobro.bowling.RollRejectedException;
+import leobro.bowling.RollResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of rejecting invalid rolls, e.g. under a flood of bad lane sensor readings. Every
+ * invocation offers the same invalid roll to a game, which stays unchanged, so only the cost of the rejection is
+ * measured: a new exception with the stack trace, a new exception without the stack trace, or the result code.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RejectionBenchmark {
+
+	private static final int INVALID_ROLL = 5;
+
+	private Game game;
+	private Game stacklessGame;
+
+	@Setup
+	public void setUp() {
+		game = new Game(Collections.singletonList("Player"));
+		game.roll(6);
+		stacklessGame = new Game(Collections.singletonList("Player"));
+		stacklessGame.setStacklessRejections(true);
+		stacklessGame.roll(6);
+	}
+
+	@Benchmark
+	public RollRejectedException exception() {
+		try {
+			game.roll(INVALID_ROLL);
+			return null;
+		} catch (RollRejectedException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public RollRejectedException stacklessException() {
+		try {
+			stacklessGame.roll(INVALID_ROLL);
+			return null;
+		} catch (RollRejectedException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public RollResult resultCode() {
+		return game.tryRoll(INVALID_ROLL);
+	}
+}
@@ -0,0 +1,63 @@
+package leobro.bowling.benchmark;
+
+import leobro.bowling.Game;
+import leobro.bowling.GameReplay;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of a "what if" continuation of a finished four-player game from the middle of the game: replaying
+ * all the rolls into a new game, forking the game with {@link GameReplay}, and copying a game.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReplayBenchmark {
+
+	private final List<String> names = Arrays.asList("A", "B", "C", "D");
+
+	private int[] rolls;
+	private int forkIndex;
+	private GameReplay replay;
+	private Game game;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		int[][] series = new int[names.size()][];
+		for (int i = 0; i < series.length; i++) {
+			series[i] = RollSeries.random(random);
+		}
+		rolls = RollSeries.interleave(series);
+		forkIndex = rolls.length / 2;
+
+		game = new Game(names);
+		game.rollAll(rolls, 0, rolls.length);
+		replay = new GameReplay(game);
+	}
+
+	@Benchmark
+	public Game replayFromScratch() {
+		Game fork = new Game(names);
+		fork.rollAll(rolls, 0, forkIndex);
+		fork.roll(0);
+		return fork;
+	}
+
+	@Benchmark
+	public Game forkWithReplay() {
+		return replay.whatIf(forkIndex, 0);
+	}
+
+	@Benchmark
+	public Game copy() {
+		return game.copy();
+	}
+}
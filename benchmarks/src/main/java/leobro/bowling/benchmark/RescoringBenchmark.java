@@ -0,0 +1,110 @@
+package leobro.bowling.benchmark;
+
+import leobro.bowling.Game;
+import leobro.bowling.GameCodec;
+import leobro.bowling.archive.ArchiveWriter;
+import leobro.bowling.archive.Handicap;
+import leobro.bowling.archive.Rescoring;
+import leobro.bowling.archive.RescoringReport;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures re-scoring of an archive of one million games by {@link Rescoring}, in parallel and in one thread, against
+ * reading the whole archive into memory and decoding every game into a new {@link Game}. The time is per game.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RescoringBenchmark {
+
+	private static final int GAMES = 1_000_000;
+
+	private Path archive;
+	private Path output;
+	private ForkJoinPool singleThread;
+
+	@Setup
+	public void setUp() throws IOException {
+		archive = Files.createTempFile("games", ".archive");
+		output = Files.createTempFile("scores", ".tsv");
+		singleThread = new ForkJoinPool(1);
+
+		Random random = new Random(42);
+		try (ArchiveWriter writer = ArchiveWriter.open(archive)) {
+			for (int i = 0; i < GAMES; i++) {
+				Game game;
+				int[] rolls;
+				if (i % 4 == 0) {
+					game = new Game(Arrays.asList("Home", "Away"));
+					rolls = RollSeries.interleave(new int[][] {RollSeries.random(random), RollSeries.random(random)});
+				} else {
+					game = new Game(Arrays.asList("Player " + (i & 1023)));
+					rolls = RollSeries.random(random);
+				}
+				game.rollAll(rolls, 0, rolls.length);
+				writer.append(game);
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		singleThread.shutdown();
+		Files.delete(archive);
+		Files.delete(output);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(GAMES)
+	public RescoringReport parallel() throws IOException {
+		return Rescoring.run(archive, output, Handicap.NONE);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(GAMES)
+	public RescoringReport singleThread() throws IOException {
+		return Rescoring.run(archive, output, Handicap.NONE, singleThread);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(GAMES)
+	public int wholeArchiveInMemory() throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(archive));
+		List<Game> games = new ArrayList<>();
+		while (buffer.hasRemaining()) {
+			int size = buffer.getShort();
+			ByteBuffer record = buffer.duplicate();
+			record.limit(buffer.position() + size);
+			buffer.position(buffer.position() + size);
+			games.add(GameCodec.decode(record));
+		}
+
+		try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+			for (int i = 0; i < games.size(); i++) {
+				Game game = games.get(i);
+				for (int player = 0; player < game.getPlayerCount(); player++) {
+					int score = game.getPlayerScore(player);
+					writer.write(i + "\t" + player + "\t" + game.getPlayerName(player) + "\t" + score + "\t0\t" + score
+							+ "\n");
+				}
+			}
+		}
+		return games.size();
+	}
+}
@@ -0,0 +1,74 @@
+package leobro.bowling.benchmark;
+
+import leobro.bowling.Game;
+import leobro.bowling.GameListener;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of registering one roll. Every invocation plays a whole one-player game, so the result shows
+ * the average over all frames and reveals whether late rolls cost more than early ones.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RollBenchmark {
+
+	private static final int OPEN_GAME_ROLLS = 20;
+	private static final int PERFECT_GAME_ROLLS = 12;
+
+	private final List<String> names = Collections.singletonList("Player");
+	private final GameListener listener = new GameListener() {
+	};
+
+	@Benchmark
+	@OperationsPerInvocation(OPEN_GAME_ROLLS)
+	public Game openGame() {
+		Game game = new Game(names);
+		for (int i = 0; i < OPEN_GAME_ROLLS / 2; i++) {
+			game.roll(4);
+			game.roll(5);
+		}
+		return game;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPEN_GAME_ROLLS)
+	public Game openGameWithSnapshots() {
+		Game game = new Game(names);
+		game.enableSnapshots();
+		for (int i = 0; i < OPEN_GAME_ROLLS / 2; i++) {
+			game.roll(4);
+			game.roll(5);
+		}
+		return game;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPEN_GAME_ROLLS)
+	public Game openGameWithListener() {
+		Game game = new Game(names);
+		game.addListener(listener);
+		for (int i = 0; i < OPEN_GAME_ROLLS / 2; i++) {
+			game.roll(4);
+			game.roll(5);
+		}
+		return game;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(PERFECT_GAME_ROLLS)
+	public Game perfectGame() {
+		Game game = new Game(names);
+		for (int i = 0; i < PERFECT_GAME_ROLLS; i++) {
+			game.roll(10);
+		}
+		return game;
+	}
+}
@@ -0,0 +1,89 @@
+package leobro.bowling.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Generates legal roll series for one player's game, used as input for the benchmarks.
+ */
+final class RollSeries {
+
+	private static final int PINS = 10;
+	private static final int FRAMES = 10;
+
+	private RollSeries() {
+	}
+
+	static int[] perfect() {
+		int[] rolls = new int[12];
+		Arrays.fill(rolls, PINS);
+		return rolls;
+	}
+
+	static int[] gutters() {
+		return new int[20];
+	}
+
+	/**
+	 * Every roll knocks down a uniformly distributed number of the pins still standing.
+	 */
+	static int[] random(Random random) {
+		int[] rolls = new int[21];
+		int count = 0;
+
+		for (int frame = 0; frame < FRAMES - 1; frame++) {
+			int first = random.nextInt(PINS + 1);
+			rolls[count++] = first;
+			if (first < PINS) {
+				rolls[count++] = random.nextInt(PINS - first + 1);
+			}
+		}
+
+		int first = random.nextInt(PINS + 1);
+		rolls[count++] = first;
+		int second = random.nextInt((first == PINS ? PINS : PINS - first) + 1);
+		rolls[count++] = second;
+
+		if (first == PINS) {
+			rolls[count++] = random.nextInt((second == PINS ? PINS : PINS - second) + 1);
+		} else if (first + second == PINS) {
+			rolls[count++] = random.nextInt(PINS + 1);
+		}
+		return Arrays.copyOf(rolls, count);
+	}
+
+	/**
+	 * Merges the series of several players into the order in which the game expects them: frame by frame, every
+	 * player rolls out their frame before the next player.
+	 */
+	static int[] interleave(int[][] series) {
+		int total = 0;
+		for (int[] rolls : series) {
+			total += rolls.length;
+		}
+
+		int[] merged = new int[total];
+		int[] positions = new int[series.length];
+		int count = 0;
+
+		for (int frame = 0; frame < FRAMES; frame++) {
+			for (int player = 0; player < series.length; player++) {
+				int[] rolls = series[player];
+				int position = positions[player];
+
+				if (frame < FRAMES - 1) {
+					merged[count++] = rolls[position++];
+					if (rolls[position - 1] < PINS) {
+						merged[count++] = rolls[position++];
+					}
+				} else {
+					while (position < rolls.length) {
+						merged[count++] = rolls[position++];
+					}
+				}
+				positions[player] = position;
+			}
+		}
+		return merged;
+	}
+}
@@ -0,0 +1,62 @@
+package leobro.bowling.benchmark;
+
+import leobro.bowling.Game;
+import leobro.bowling.RuleSet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of registering one roll by different rules. Every invocation plays a whole one-player game of
+ * nines and misses, like {@link RollBenchmark#openGame()}. The ten-pin game must cost the same as before the rules
+ * became configurable; compare {@code tenPin} with {@code RollBenchmark.openGame} of the earlier versions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RuleSetBenchmark {
+
+	private final List<String> names = Collections.singletonList("Player");
+
+	@Param({"tenPin", "ninePin", "candlepin", "shortFormat"})
+	public String variant;
+
+	private RuleSet rules;
+	private int rollsPerFrame;
+
+	@Setup
+	public void setUp() {
+		switch (variant) {
+			case "ninePin":
+				rules = RuleSet.NINE_PIN;
+				break;
+			case "candlepin":
+				rules = RuleSet.CANDLEPIN;
+				break;
+			case "shortFormat":
+				rules = RuleSet.shortFormat(5);
+				break;
+			default:
+				rules = RuleSet.TEN_PIN;
+		}
+		rollsPerFrame = rules.getRollsPerFrame();
+	}
+
+	@Benchmark
+	public Game openGame() {
+		Game game = new Game(names, rules);
+		while (game.isGameActive()) {
+			game.roll(4);
+			game.roll(4);
+			if (rollsPerFrame == 3) {
+				game.roll(0);
+			}
+		}
+		return game;
+	}
+}
@@ -0,0 +1,94 @@
+package leobro.bowling.benchmark;
+
+import leobro.bowling.Frame;
+import leobro.bowling.Game;
+import leobro.bowling.ScoreboardRenderer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading of a finished four-player game the way a scoreboard does it: the results table of every player
+ * with display slots and accumulated scores of each frame, and the winner of the game. The renderer benchmarks write
+ * the whole table into reused buffers, and the changes after one more roll of an unfinished game.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScoreboardBenchmark {
+
+	private static final int PLAYERS = 4;
+
+	private Game game;
+	private Game unfinishedGame;
+	private final ScoreboardRenderer textRenderer = new ScoreboardRenderer(ScoreboardRenderer.Format.TEXT);
+	private final ScoreboardRenderer jsonRenderer = new ScoreboardRenderer(ScoreboardRenderer.Format.JSON);
+	private final StringBuilder text = new StringBuilder(1024);
+	private final ByteBuffer json = ByteBuffer.allocateDirect(4096);
+
+	@Setup
+	public void setUp() {
+		List<String> names = new ArrayList<>();
+		int[][] series = new int[PLAYERS][];
+		Random random = new Random(42);
+
+		for (int i = 0; i < PLAYERS; i++) {
+			names.add("Player " + i);
+			series[i] = RollSeries.random(random);
+		}
+
+		game = new Game(names);
+		for (int pins : RollSeries.interleave(series)) {
+			game.roll(pins);
+		}
+		unfinishedGame = new Game(names);
+	}
+
+	@Benchmark
+	public void renderTables(Blackhole blackhole) {
+		for (int player = 0; player < PLAYERS; player++) {
+			for (Frame frame : game.getPlayerResultsTable(player)) {
+				blackhole.consume(frame.getDisplaySlots());
+				blackhole.consume(frame.getAccumulatedScore());
+			}
+		}
+	}
+
+	@Benchmark
+	public StringBuilder renderText() {
+		text.setLength(0);
+		textRenderer.render(game, text);
+		return text;
+	}
+
+	@Benchmark
+	public ByteBuffer renderJson() {
+		json.clear();
+		jsonRenderer.render(game, json);
+		return json;
+	}
+
+	@Benchmark
+	public ByteBuffer renderJsonChanges() {
+		if (!unfinishedGame.isGameActive()) {
+			unfinishedGame.reset();
+		}
+		unfinishedGame.roll(1);
+		json.clear();
+		jsonRenderer.renderChanges(unfinishedGame, json);
+		return json;
+	}
+
+	@Benchmark
+	public int winner() {
+		return game.getWinner();
+	}
+}
@@ -0,0 +1,56 @@
+package leobro.bowling.benchmark;
+
+import leobro.bowling.Game;
+import leobro.bowling.simulation.BowlerProfile;
+import leobro.bowling.simulation.ScoreHistogram;
+import leobro.bowling.simulation.Simulation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of one simulated game: a whole parallel simulation, and a single thread playing the games in one
+ * reset game or in a new game every time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimulationBenchmark {
+
+	private static final int GAMES = 100_000;
+
+	private final List<String> names = Collections.singletonList("Bowler");
+	private final BowlerProfile profile = BowlerProfile.uniform();
+	private final SplittableRandom random = new SplittableRandom(42);
+	private final Game game = new Game(names);
+
+	@Benchmark
+	@OperationsPerInvocation(GAMES)
+	public ScoreHistogram parallelSimulation() {
+		return Simulation.run(profile, GAMES, 42);
+	}
+
+	@Benchmark
+	public int resetGame() {
+		game.reset();
+		while (game.isGameActive()) {
+			game.roll(profile.nextRoll(game, random));
+		}
+		return game.getPlayerScore(0);
+	}
+
+	@Benchmark
+	public int newGame() {
+		Game game = new Game(names);
+		while (game.isGameActive()) {
+			game.roll(profile.nextRoll(game, random));
+		}
+		return game.getPlayerScore(0);
+	}
+}
@@ -0,0 +1,80 @@
+package leobro.bowling.benchmark;
+
+import leobro.bowling.Game;
+import leobro.bowling.TournamentStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares scoring and ranking of a tournament of 10 000 players in {@link TournamentStore} with one {@link Game}
+ * per player.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TournamentBenchmark {
+
+	private static final int PLAYERS = 10_000;
+
+	private List<String> names;
+	private int[][] rolls;
+	private TournamentStore store;
+	private Game[] games;
+
+	@Setup
+	public void setUp() {
+		names = new ArrayList<>();
+		rolls = new int[PLAYERS][];
+		Random random = new Random(42);
+		for (int i = 0; i < PLAYERS; i++) {
+			names.add("Player " + i);
+			rolls[i] = RollSeries.random(random);
+		}
+
+		store = scoreStore();
+		games = scoreGames();
+	}
+
+	@Benchmark
+	public TournamentStore scoreStore() {
+		TournamentStore store = new TournamentStore(names);
+		for (int player = 0; player < PLAYERS; player++) {
+			store.rollAll(player, rolls[player], 0, rolls[player].length);
+		}
+		return store;
+	}
+
+	@Benchmark
+	public Game[] scoreGames() {
+		Game[] games = new Game[PLAYERS];
+		for (int player = 0; player < PLAYERS; player++) {
+			games[player] = new Game(Collections.singletonList(names.get(player)));
+			games[player].rollAll(rolls[player], 0, rolls[player].length);
+		}
+		return games;
+	}
+
+	@Benchmark
+	public int[] rankStore() {
+		return store.rank();
+	}
+
+	@Benchmark
+	public Integer[] rankGames() {
+		Integer[] ranking = new Integer[PLAYERS];
+		for (int i = 0; i < PLAYERS; i++) {
+			ranking[i] = i;
+		}
+		Arrays.sort(ranking, (a, b) -> games[b].getPlayerScore(0) - games[a].getPlayerScore(0));
+		return ranking;
+	}
+}
@@ -0,0 +1,104 @@
+package leobro.bowling.server;
+
+import leobro.bowling.Game;
+import leobro.bowling.RollResult;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Serves one lane controller connected to the {@link LaneServer}. The connection owns the game of its lane, so
+ * the game is only ever touched by the thread of the connection and needs no locking.
+ */
+class LaneConnection implements Runnable {
+
+	private final Socket socket;
+	private final Runnable onClose;
+	private Game game;
+
+	LaneConnection(Socket socket, Runnable onClose) {
+		this.socket = socket;
+		this.onClose = onClose;
+	}
+
+	@Override
+	public void run() {
+		try (Socket ignored = socket;
+			 BufferedReader in = new BufferedReader(
+					 new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+			 Writer out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+			socket.setTcpNoDelay(true);
+
+			String line;
+			while ((line = in.readLine()) != null) {
+				if (line.equals(LaneProtocol.QUIT)) {
+					out.write(LaneProtocol.BYE);
+					out.write('\n');
+					out.flush();
+					break;
+				}
+				out.write(handle(line));
+				out.write('\n');
+				out.flush();
+			}
+		} catch (IOException e) {
+			// the lane controller has gone, so there is nobody to report to
+		} finally {
+			onClose.run();
+		}
+	}
+
+	/**
+	 * Executes one request and returns the reply line.
+	 */
+	String handle(String line) {
+		String[] tokens = line.trim().split("\\s+", 2);
+		String command = tokens[0];
+		String argument = tokens.length > 1 ? tokens[1] : "";
+
+		if (command.equals(LaneProtocol.START)) {
+			if (argument.isEmpty()) {
+				return LaneProtocol.ERROR + " No players";
+			}
+			String[] names = argument.split(",", -1);
+			for (int i = 0; i < names.length; i++) {
+				names[i] = names[i].trim();
+				if (names[i].isEmpty()) {
+					return LaneProtocol.ERROR + " Empty player name";
+				}
+			}
+			game = new Game(Arrays.asList(names));
+			return LaneProtocol.STARTED + " " + game.getPlayerCount();
+		}
+
+		if (command.equals(LaneProtocol.ROLL)) {
+			if (game == null) {
+				return LaneProtocol.ERROR + " No game";
+			}
+
+			int pins;
+			try {
+				pins = Integer.parseInt(argument);
+			} catch (NumberFormatException e) {
+				return LaneProtocol.ERROR + " Pins must be a number";
+			}
+
+			int player = game.getNextPlayer();
+			RollResult result = game.tryRoll(pins);
+			if (result != RollResult.ACCEPTED) {
+				return LaneProtocol.REJECTED + " " + result;
+			}
+			int nextPlayer = game.isGameActive() ? game.getNextPlayer() : -1;
+			return LaneProtocol.SCORE + " " + player + " " + game.getPlayerScore(player) + " " + nextPlayer;
+		}
+
+		return LaneProtocol.ERROR + " Unknown command";
+	}
+}
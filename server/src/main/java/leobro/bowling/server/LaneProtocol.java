@@ -0,0 +1,31 @@
+package leobro.bowling.server;
+
+/**
+ * The line protocol between a lane controller and the {@link LaneServer}. Every request is a line of UTF-8 text, and
+ * the server answers every request with one line:
+ * <ul>
+ *     <li>{@code START <name>,<name>...} starts a new game of the lane with the given players, replacing the previous
+ *     one, and is answered with {@code STARTED <count of players>};</li>
+ *     <li>{@code ROLL <pins>} registers the roll of the next player, and is answered with
+ *     {@code SCORE <player> <score of the player> <next player>}, where the next player is -1 when the game is over,
+ *     or with {@code REJECTED <reason>} naming the {@link leobro.bowling.RollResult};</li>
+ *     <li>{@code QUIT} is answered with {@code BYE}, and the server closes the connection.</li>
+ * </ul>
+ * The command is the first word of the line and must match exactly; the player names are trimmed and must not be
+ * empty. A malformed request is answered with {@code ERROR <message>}.
+ */
+final class LaneProtocol {
+
+	static final String START = "START";
+	static final String ROLL = "ROLL";
+	static final String QUIT = "QUIT";
+
+	static final String STARTED = "STARTED";
+	static final String SCORE = "SCORE";
+	static final String REJECTED = "REJECTED";
+	static final String BYE = "BYE";
+	static final String ERROR = "ERROR";
+
+	private LaneProtocol() {
+	}
+}
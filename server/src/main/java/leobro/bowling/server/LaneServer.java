@@ -0,0 +1,123 @@
+package leobro.bowling.server;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accepts the connections of lane controllers and registers their rolls, see {@link LaneProtocol}. Every connection is
+ * one lane with its own game, served by its own thread: a virtual thread where the runtime has them, so that one box
+ * holds tens of thousands of lanes with plain blocking I/O.
+ */
+public class LaneServer implements AutoCloseable {
+
+	/**
+	 * The port used when none is given on the command line.
+	 */
+	public static final int DEFAULT_PORT = 7878;
+
+	private static final int BACKLOG = 16 * 1024;
+
+	private final ServerSocket serverSocket;
+	private final ExecutorService connections = LaneThreads.newThreadPerTaskExecutor("lane");
+	private final Set<Socket> openSockets = ConcurrentHashMap.newKeySet();
+	private final Thread acceptor;
+
+	/**
+	 * Starts the server listening on the loopback address.
+	 *
+	 * @param port The port, or zero to choose a free one.
+	 * @throws IOException if the port can not be bound.
+	 */
+	public LaneServer(int port) throws IOException {
+		this(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+	}
+
+	/**
+	 * Starts the server listening on the given address.
+	 *
+	 * @param address The address to bind.
+	 * @throws IOException if the address can not be bound.
+	 */
+	public LaneServer(InetSocketAddress address) throws IOException {
+		serverSocket = new ServerSocket();
+		serverSocket.setReuseAddress(true);
+		serverSocket.bind(address, BACKLOG);
+
+		acceptor = new Thread(this::acceptConnections, "lane-server-acceptor");
+		acceptor.setDaemon(true);
+		acceptor.start();
+	}
+
+	/**
+	 * Returns the port the server listens on.
+	 */
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	/**
+	 * Returns the count of lanes connected at the moment.
+	 */
+	public int getConnectionCount() {
+		return openSockets.size();
+	}
+
+	/**
+	 * Shows if the connections are served by virtual threads.
+	 */
+	public boolean usesVirtualThreads() {
+		return LaneThreads.hasVirtualThreads();
+	}
+
+	private void acceptConnections() {
+		while (!serverSocket.isClosed()) {
+			try {
+				Socket socket = serverSocket.accept();
+				openSockets.add(socket);
+				connections.execute(new LaneConnection(socket, () -> openSockets.remove(socket)));
+			} catch (SocketException e) {
+				// the server socket is closed
+			} catch (IOException e) {
+				// a failed connection does not stop the server
+			}
+		}
+	}
+
+	/**
+	 * Stops accepting connections and closes the connected ones.
+	 */
+	@Override
+	public void close() throws IOException, InterruptedException {
+		serverSocket.close();
+		for (Socket socket : openSockets) {
+			socket.close();
+		}
+		connections.shutdown();
+		connections.awaitTermination(1, TimeUnit.MINUTES);
+		acceptor.join();
+	}
+
+	/**
+	 * Runs the server until the process is stopped.
+	 *
+	 * @param args The port, {@value #DEFAULT_PORT} by default, and the address to bind, the loopback address by
+	 *             default; the lanes on other hosts are served only when an address reachable by them is given.
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+		InetAddress address = args.length > 1 ? InetAddress.getByName(args[1]) : InetAddress.getLoopbackAddress();
+		try (LaneServer server = new LaneServer(new InetSocketAddress(address, port))) {
+			System.out.println("Lane server listening on " + address.getHostAddress() + " port " + server.getPort()
+					+ (server.usesVirtualThreads() ? " with virtual threads" : " with platform threads"));
+			Thread.currentThread().join();
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package leobro.bowling.server;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the executors running one thread per lane connection. Virtual threads are used when the runtime has them
+ * (Java 21 and later), so that tens of thousands of connections cost little memory. The module is compiled for
+ * Java 17, so the virtual threads are looked up reflectively; older runtimes fall back to daemon platform threads
+ * with a small stack.
+ */
+final class LaneThreads {
+
+	private static final long PLATFORM_STACK_SIZE = 256 * 1024;
+	private static final Method VIRTUAL_EXECUTOR_FACTORY = findVirtualExecutorFactory();
+
+	private LaneThreads() {
+	}
+
+	/**
+	 * Returns the executor starting a new thread for every task.
+	 *
+	 * @param name The prefix of the names of platform threads.
+	 * @return The executor.
+	 */
+	static ExecutorService newThreadPerTaskExecutor(String name) {
+		if (VIRTUAL_EXECUTOR_FACTORY != null) {
+			try {
+				return (ExecutorService) VIRTUAL_EXECUTOR_FACTORY.invoke(null);
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalStateException("Virtual threads are not available", e);
+			}
+		}
+
+		AtomicInteger count = new AtomicInteger();
+		return Executors.newCachedThreadPool(task -> {
+			Thread thread = new Thread(null, task, name + "-" + count.incrementAndGet(), PLATFORM_STACK_SIZE);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Shows if {@link #newThreadPerTaskExecutor(String)} creates virtual threads.
+	 *
+	 * @return {@code true} if the runtime has virtual threads.
+	 */
+	static boolean hasVirtualThreads() {
+		return VIRTUAL_EXECUTOR_FACTORY != null;
+	}
+
+	/**
+	 * The factory method exists but fails in the Java versions having virtual threads as a preview feature, so it is
+	 * tried once.
+	 */
+	private static Method findVirtualExecutorFactory() {
+		try {
+			Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			((ExecutorService) factory.invoke(null)).shutdown();
+			return factory;
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,202 @@
+package leobro.bowling.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connects many lane controllers to a {@link LaneServer} at once and plays games on all of them, measuring the time
+ * from sending a roll to receiving its score. All the lanes are connected before the first roll, so the server holds
+ * all the connections together. Reports the throughput and the percentiles of the latency.
+ * <p>
+ * Arguments: host, port, count of lanes, count of games per lane. The port 0 starts a server in the same process.
+ * Every game has two players rolling from 0 to 4 pins, i.e. 40 rolls per game.
+ */
+public class LoadGenerator {
+
+	private static final int ROLLS_PER_GAME = 40;
+
+	private final InetSocketAddress address;
+	private final int lanes;
+	private final int gamesPerLane;
+
+	/**
+	 * Creates the generator.
+	 *
+	 * @param address The address of the server.
+	 * @param lanes The count of lanes connected at once.
+	 * @param gamesPerLane The count of games played on every lane.
+	 */
+	public LoadGenerator(InetSocketAddress address, int lanes, int gamesPerLane) {
+		this.address = address;
+		this.lanes = lanes;
+		this.gamesPerLane = gamesPerLane;
+	}
+
+	/**
+	 * Plays the games and waits for all the lanes to finish.
+	 *
+	 * @return The latencies and the throughput of the run.
+	 * @throws IOException if a lane fails.
+	 */
+	public Report run() throws IOException, InterruptedException {
+		CountDownLatch connected = new CountDownLatch(lanes);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<long[]>> results = new ArrayList<>(lanes);
+
+		ExecutorService executor = LaneThreads.newThreadPerTaskExecutor("lane-client");
+		try {
+			for (int i = 0; i < lanes; i++) {
+				long seed = i;
+				results.add(executor.submit(() -> playLane(seed, connected, start)));
+			}
+			connected.await();
+			long startNanos = System.nanoTime();
+			start.countDown();
+
+			long[] latencies = new long[lanes * gamesPerLane * ROLLS_PER_GAME];
+			int count = 0;
+			for (Future<long[]> result : results) {
+				long[] laneLatencies = result.get();
+				System.arraycopy(laneLatencies, 0, latencies, count, laneLatencies.length);
+				count += laneLatencies.length;
+			}
+			return new Report(lanes, latencies, System.nanoTime() - startNanos);
+		} catch (java.util.concurrent.ExecutionException e) {
+			throw new IOException("A lane failed", e.getCause());
+		} finally {
+			executor.shutdownNow();
+			executor.awaitTermination(1, TimeUnit.MINUTES);
+		}
+	}
+
+	private long[] playLane(long seed, CountDownLatch connected, CountDownLatch start) throws Exception {
+		SplittableRandom random = new SplittableRandom(seed);
+		long[] latencies = new long[gamesPerLane * ROLLS_PER_GAME];
+
+		try (Socket socket = new Socket()) {
+			try {
+				socket.connect(address);
+				socket.setTcpNoDelay(true);
+			} finally {
+				connected.countDown();
+			}
+			BufferedReader in = new BufferedReader(
+					new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+			OutputStream out = socket.getOutputStream();
+			start.await();
+
+			int roll = 0;
+			for (int game = 0; game < gamesPerLane; game++) {
+				request("START A,B", in, out, LaneProtocol.STARTED);
+				for (int i = 0; i < ROLLS_PER_GAME; i++) {
+					long sent = System.nanoTime();
+					request("ROLL " + random.nextInt(5), in, out, LaneProtocol.SCORE);
+					latencies[roll++] = System.nanoTime() - sent;
+				}
+			}
+			request(LaneProtocol.QUIT, in, out, LaneProtocol.BYE);
+		}
+		return latencies;
+	}
+
+	private static void request(String line, BufferedReader in, OutputStream out, String expected)
+			throws IOException {
+		out.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+		out.flush();
+		String reply = in.readLine();
+		if (reply == null || !reply.startsWith(expected)) {
+			throw new IOException("Unexpected reply to " + line + ": " + reply);
+		}
+	}
+
+	/**
+	 * The result of a run.
+	 */
+	public static final class Report {
+
+		private final int lanes;
+		private final long[] latencies;
+		private final long nanos;
+
+		Report(int lanes, long[] latencies, long nanos) {
+			this.lanes = lanes;
+			this.latencies = latencies;
+			this.nanos = nanos;
+			Arrays.sort(latencies);
+		}
+
+		/**
+		 * Returns the count of rolls registered.
+		 */
+		public int getRollCount() {
+			return latencies.length;
+		}
+
+		/**
+		 * Returns the count of rolls registered per second by all the lanes together.
+		 */
+		public double getRollsPerSecond() {
+			return latencies.length * 1e9 / nanos;
+		}
+
+		/**
+		 * Returns the latency from sending a roll to receiving its score, below which the given share of rolls
+		 * completed.
+		 *
+		 * @param percentile The share of rolls from 0 to 100.
+		 * @return The latency in nanoseconds.
+		 */
+		public long getLatencyPercentile(double percentile) {
+			if (latencies.length == 0) {
+				return 0;
+			}
+			int index = (int) Math.ceil(latencies.length * percentile / 100) - 1;
+			return latencies[Math.max(0, Math.min(index, latencies.length - 1))];
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%d lanes, %d rolls, %.0f rolls/s, latency p50 %.1f us, p99 %.1f us, max %.1f us",
+					lanes, getRollCount(), getRollsPerSecond(), getLatencyPercentile(50) / 1e3,
+					getLatencyPercentile(99) / 1e3, getLatencyPercentile(100) / 1e3);
+		}
+	}
+
+	/**
+	 * Runs the load and prints the report.
+	 *
+	 * @param args Host, port, count of lanes and count of games per lane; by default a server in the same process,
+	 *             1000 lanes and 10 games per lane.
+	 */
+	public static void main(String[] args) throws Exception {
+		String host = args.length > 0 ? args[0] : "localhost";
+		int port = args.length > 1 ? Integer.parseInt(args[1]) : 0;
+		int lanes = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+		int games = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+
+		LaneServer server = port == 0 ? new LaneServer(0) : null;
+		try {
+			InetSocketAddress address = server != null
+					? new InetSocketAddress(host, server.getPort())
+					: new InetSocketAddress(host, port);
+			System.out.println(new LoadGenerator(address, lanes, games).run());
+		} finally {
+			if (server != null) {
+				server.close();
+			}
+		}
+	}
+}
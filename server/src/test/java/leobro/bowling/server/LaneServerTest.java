@@ -0,0 +1,123 @@
+package leobro.bowling.server;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class LaneServerTest {
+
+	private LaneServer server;
+
+	@Before
+	public void startServer() throws IOException {
+		server = new LaneServer(0);
+	}
+
+	@After
+	public void stopServer() throws Exception {
+		server.close();
+	}
+
+	@Test
+	public void registersRollsOfLane() throws IOException {
+		try (Lane lane = new Lane()) {
+			assertEquals("STARTED 2", lane.request("START A,B"));
+			assertEquals("SCORE 0 7 0", lane.request("ROLL 7"));
+			assertEquals("SCORE 0 10 1", lane.request("ROLL 3"));
+			assertEquals("SCORE 1 10 0", lane.request("ROLL 10"));
+		}
+	}
+
+	@Test
+	public void reportsEndOfGame() throws IOException {
+		try (Lane lane = new Lane()) {
+			lane.request("START A");
+			assertEquals("SCORE 0 10 0", lane.request("ROLL 10"));
+			for (int i = 1; i < 10; i++) {
+				assertEquals("SCORE 0 " + 30 * i + " 0", lane.request("ROLL 10"));
+			}
+			assertEquals("SCORE 0 290 0", lane.request("ROLL 10"));
+			assertEquals("SCORE 0 300 -1", lane.request("ROLL 10"));
+			assertEquals("REJECTED GAME_OVER", lane.request("ROLL 0"));
+		}
+	}
+
+	@Test
+	public void rejectsInvalidRolls() throws IOException {
+		try (Lane lane = new Lane()) {
+			lane.request("START A");
+			assertEquals("REJECTED NEGATIVE_PINS", lane.request("ROLL -1"));
+			assertEquals("REJECTED TOO_MANY_PINS", lane.request("ROLL 11"));
+			lane.request("ROLL 6");
+			assertEquals("REJECTED TOO_MANY_PINS_IN_FRAME", lane.request("ROLL 5"));
+			assertEquals("SCORE 0 10 0", lane.request("ROLL 4"));
+		}
+	}
+
+	@Test
+	public void answersMalformedRequests() throws IOException {
+		try (Lane lane = new Lane()) {
+			assertEquals("ERROR No game", lane.request("ROLL 1"));
+			assertEquals("ERROR No players", lane.request("START"));
+			lane.request("START A");
+			assertEquals("ERROR Pins must be a number", lane.request("ROLL X"));
+			assertEquals("ERROR Unknown command", lane.request("SCORE"));
+			assertEquals("ERROR Unknown command", lane.request("STARTX A"));
+			assertEquals("ERROR Unknown command", lane.request("ROLLS 1"));
+			assertEquals("ERROR Empty player name", lane.request("START A,,B"));
+			assertEquals("ERROR Empty player name", lane.request("START A, "));
+			assertEquals("STARTED 2", lane.request("START  A , B "));
+		}
+	}
+
+	@Test
+	public void closesConnectionOnQuit() throws IOException {
+		try (Lane lane = new Lane()) {
+			assertEquals("BYE", lane.request("QUIT"));
+			assertNull(lane.in.readLine());
+		}
+	}
+
+	@Test
+	public void servesManyLanesAtOnce() throws Exception {
+		LoadGenerator.Report report = new LoadGenerator(
+				new InetSocketAddress("localhost", server.getPort()), 200, 2).run();
+
+		assertEquals(200 * 2 * 40, report.getRollCount());
+	}
+
+	private class Lane implements AutoCloseable {
+
+		private final Socket socket;
+		private final BufferedReader in;
+		private final OutputStream out;
+
+		Lane() throws IOException {
+			socket = new Socket("localhost", server.getPort());
+			in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+			out = socket.getOutputStream();
+		}
+
+		String request(String line) throws IOException {
+			out.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+			out.flush();
+			return in.readLine();
+		}
+
+		@Override
+		public void close() throws IOException {
+			socket.close();
+		}
+	}
+}
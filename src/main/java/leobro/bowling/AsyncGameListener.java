@@ -0,0 +1,256 @@
+package leobro.bowling;
+
+/**
+ * Delivers the game events to a slow listener in its own thread. The events are copied into a bounded ring buffer
+ * of preallocated slots, and a consumer thread passes them to the delegate. As the game goes on while the delegate
+ * works, the delegate does not receive the game itself but a {@link Game#copy() copy} taken in the thread
+ * registering the roll, in the state right after that roll; the events of one roll share one copy. The copies are
+ * distinct objects, so a delegate watching several games tells them apart by their players, not by the identity
+ * of the game.
+ * <p>
+ * The thread registering the rolls never waits for the delegate: when the buffer is full, the new event is dropped
+ * and counted in {@link #getDroppedEvents()}, and it is never delivered later. The copy passed with any following
+ * event still holds the complete state of the game, so a delegate which needs exact scores after drops reads them
+ * from the game it receives rather than summing the events. Events published after {@link #close()} are ignored.
+ * An exception thrown by the delegate is counted and passed to the uncaught exception handler of the consumer
+ * thread, and the delivery goes on with the next event.
+ */
+public class AsyncGameListener implements GameListener, AutoCloseable {
+
+	private static final int ROLL_REGISTERED = 0;
+	private static final int STRIKE = 1;
+	private static final int SPARE = 2;
+	private static final int BONUS_RESOLVED = 3;
+	private static final int FRAME_COMPLETED = 4;
+	private static final int SCORE_UPDATED = 5;
+	private static final int GAME_OVER = 6;
+	private static final int GAME_RESET = 7;
+	private static final int GAME_RELEASED = 8;
+
+	private final GameListener delegate;
+	private final int mask;
+	private final int[] types;
+	private final Game[] games;
+	private final int[] players;
+	private final int[] frames;
+	private final int[] values;
+	private final Thread consumer;
+
+	private long head;
+	private long tail;
+	private Game lastSource;
+	private Game lastCopy;
+	private long droppedEvents;
+	private long failedEvents;
+	private boolean isClosed;
+
+	/**
+	 * Creates the listener and starts its consumer thread.
+	 *
+	 * @param delegate The listener receiving the events in the consumer thread.
+	 * @param capacity The count of events the buffer can hold; rounded up to a power of two.
+	 */
+	public AsyncGameListener(GameListener delegate, int capacity) {
+		if (capacity < 1 || capacity > 1 << 30) {
+			throw new IllegalArgumentException("Invalid capacity");
+		}
+
+		int size = Integer.highestOneBit(capacity);
+		if (size < capacity) {
+			size <<= 1;
+		}
+
+		this.delegate = delegate;
+		mask = size - 1;
+		types = new int[size];
+		games = new Game[size];
+		players = new int[size];
+		frames = new int[size];
+		values = new int[size];
+
+		consumer = new Thread(this::deliver, "game-events");
+		consumer.setDaemon(true);
+		consumer.start();
+	}
+
+	/**
+	 * Returns the count of events dropped because the buffer was full. The dropped events are lost, see the policy
+	 * described by the class.
+	 *
+	 * @return The count of dropped events.
+	 */
+	public synchronized long getDroppedEvents() {
+		return droppedEvents;
+	}
+
+	/**
+	 * Returns the count of events whose delivery failed with an exception of the delegate.
+	 *
+	 * @return The count of failed events.
+	 */
+	public synchronized long getFailedEvents() {
+		return failedEvents;
+	}
+
+	@Override
+	public void rollRegistered(Game game, int playerIndex, int frameIndex, int pins) {
+		publish(ROLL_REGISTERED, game, playerIndex, frameIndex, pins);
+	}
+
+	@Override
+	public void strike(Game game, int playerIndex, int frameIndex) {
+		publish(STRIKE, game, playerIndex, frameIndex, 0);
+	}
+
+	@Override
+	public void spare(Game game, int playerIndex, int frameIndex) {
+		publish(SPARE, game, playerIndex, frameIndex, 0);
+	}
+
+	@Override
+	public void bonusResolved(Game game, int playerIndex, int frameIndex, int frameScore) {
+		publish(BONUS_RESOLVED, game, playerIndex, frameIndex, frameScore);
+	}
+
+	@Override
+	public void frameCompleted(Game game, int playerIndex, int frameIndex) {
+		publish(FRAME_COMPLETED, game, playerIndex, frameIndex, 0);
+	}
+
+	@Override
+	public void scoreUpdated(Game game, int playerIndex, int score) {
+		publish(SCORE_UPDATED, game, playerIndex, 0, score);
+	}
+
+	@Override
+	public void gameOver(Game game) {
+		publish(GAME_OVER, game, 0, 0, 0);
+	}
+
+	@Override
+	public void gameReset(Game game) {
+		publish(GAME_RESET, game, 0, 0, 0);
+	}
+
+	@Override
+	public void gameReleased(Game game) {
+		publish(GAME_RELEASED, game, 0, 0, 0);
+	}
+
+	/**
+	 * Stops accepting events, delivers the buffered ones and stops the consumer thread. If the calling thread is
+	 * interrupted while waiting, returns without waiting further and keeps the thread interrupted.
+	 */
+	@Override
+	public void close() {
+		synchronized (this) {
+			isClosed = true;
+			notifyAll();
+		}
+		try {
+			consumer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private synchronized void publish(int type, Game game, int player, int frame, int value) {
+		if (isClosed) {
+			return;
+		}
+		if (tail - head > mask) {
+			droppedEvents++;
+			lastSource = null;
+			return;
+		}
+		if (game != lastSource || type == ROLL_REGISTERED || type == GAME_RESET || type == GAME_RELEASED) {
+			lastSource = game;
+			lastCopy = game.copy();
+		}
+
+		int slot = (int) tail & mask;
+		types[slot] = type;
+		games[slot] = lastCopy;
+		players[slot] = player;
+		frames[slot] = frame;
+		values[slot] = value;
+		if (type == GAME_RELEASED) {
+			lastSource = null;
+			lastCopy = null;
+		}
+		if (tail++ == head) {
+			notifyAll();
+		}
+	}
+
+	private void deliver() {
+		while (true) {
+			int type;
+			Game game;
+			int player;
+			int frame;
+			int value;
+
+			synchronized (this) {
+				while (head == tail && !isClosed) {
+					try {
+						wait();
+					} catch (InterruptedException e) {
+						return;
+					}
+				}
+				if (head == tail) {
+					return;
+				}
+
+				int slot = (int) head++ & mask;
+				type = types[slot];
+				game = games[slot];
+				player = players[slot];
+				frame = frames[slot];
+				value = values[slot];
+				games[slot] = null;
+			}
+
+			try {
+				dispatch(type, game, player, frame, value);
+			} catch (RuntimeException e) {
+				synchronized (this) {
+					failedEvents++;
+				}
+				consumer.getUncaughtExceptionHandler().uncaughtException(consumer, e);
+			}
+		}
+	}
+
+	private void dispatch(int type, Game game, int player, int frame, int value) {
+		switch (type) {
+			case ROLL_REGISTERED:
+				delegate.rollRegistered(game, player, frame, value);
+				break;
+			case STRIKE:
+				delegate.strike(game, player, frame);
+				break;
+			case SPARE:
+				delegate.spare(game, player, frame);
+				break;
+			case BONUS_RESOLVED:
+				delegate.bonusResolved(game, player, frame, value);
+				break;
+			case FRAME_COMPLETED:
+				delegate.frameCompleted(game, player, frame);
+				break;
+			case SCORE_UPDATED:
+				delegate.scoreUpdated(game, player, value);
+				break;
+			case GAME_RESET:
+				delegate.gameReset(game);
+				break;
+			case GAME_RELEASED:
+				delegate.gameReleased(game);
+				break;
+			default:
+				delegate.gameOver(game);
+		}
+	}
+}
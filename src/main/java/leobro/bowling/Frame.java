@@ -1,6 +1,5 @@
 package leobro.bowling;
 
-import java.security.InvalidParameterException;
 import java.util.List;
 
 /**
@@ -10,16 +9,20 @@ import java.util.List;
 public class Frame {
 
 	static final int PINS_IN_FRAME = 10;
+	static final int NO_PINS = -1;
 
-	Integer pins1;
-    Integer pins2;
+	int pins1 = NO_PINS;
+    int pins2 = NO_PINS;
     boolean isComplete;
     int score;
-    private int accumulatedScore;
+    int accumulatedScore;
     boolean containsSpare;
     boolean containsStrike;
 
-	private int pendingRolls;
+	int pendingRolls;
+	Player owner;
+	int index;
+	boolean isAccumulationFinal;
 	private FrameResultsFormatter formatter = new FrameResultsFormatter(this);
 
     /**
@@ -51,16 +54,25 @@ public class Frame {
     }
 
     /**
-     * Returns the current score of the player for the moment of the frame.
+     * Returns the current score of the player for the moment of the frame. The frames which are not played yet
+	 * return the current score of the player. The accumulated score is stored once the frame can not change any more; until then it is
+	 * computed on every read from the last stored one, and the read does not change the game.
 	 *
      * @return total score of the player for the given frame.
      */
     public int getAccumulatedScore() {
-        return accumulatedScore;
+        if (owner == null || isAccumulationFinal) {
+            return accumulatedScore;
+        }
+        return owner.getAccumulatedScore(index);
     }
 
-    void setAccumulatedScore(int score) {
+    /**
+     * Stores the accumulated score which will not change any more.
+     */
+    void finishAccumulation(int score) {
         accumulatedScore = score;
+        isAccumulationFinal = true;
     }
 
     void incrementScore(int pins) {
@@ -80,8 +92,7 @@ public class Frame {
     }
 
     void registerRoll(int pins) {
-        assertPinsArePositive(pins);
-        assertPinsLessOrEqualToMaximum(pins);
+        assertRollAccepted(pins);
 
         if (isFirstRoll()) {
 			pins1 = pins;
@@ -92,7 +103,6 @@ public class Frame {
                 isComplete = true;
             }
         } else {
-            assertTotalPinsLessOrEqualToMaximum(pins);
 			pins2 = pins;
 
             if (isSpare()) {
@@ -105,40 +115,125 @@ public class Frame {
         score += pins;
     }
 
-    boolean isFirstRoll() {
-        return pins1 == null;
+    /**
+     * Sets the frame to the given results, e.g. to show a frame kept in another form than an object.
+     */
+    void restore(int pins1, int pins2, int score, int accumulatedScore) {
+        this.pins1 = pins1;
+        this.pins2 = pins2;
+        this.score = score;
+        this.accumulatedScore = accumulatedScore;
+        containsStrike = pins1 == PINS_IN_FRAME;
+        containsSpare = !containsStrike && pins2 != NO_PINS && pins1 + pins2 == PINS_IN_FRAME;
+        isComplete = containsStrike || pins2 != NO_PINS;
+        pendingRolls = 0;
+        isAccumulationFinal = false;
     }
 
-    boolean isStrike() {
-        return pins1 == PINS_IN_FRAME;
+    /**
+     * Clears the results to reuse the frame in a new game.
+     */
+    void reset() {
+        restore(NO_PINS, NO_PINS, 0, 0);
     }
 
-    boolean isSpare() {
-        return pins1 + pins2 == PINS_IN_FRAME;
+    /**
+     * Creates an independent frame with the same results.
+     */
+    Frame copy() {
+        Frame copy = new Frame();
+        copyTo(copy);
+        return copy;
+    }
+
+    void copyTo(Frame target) {
+        target.pins1 = pins1;
+        target.pins2 = pins2;
+        target.isComplete = isComplete;
+        target.score = score;
+        target.accumulatedScore = accumulatedScore;
+        target.containsSpare = containsSpare;
+        target.containsStrike = containsStrike;
+        target.pendingRolls = pendingRolls;
+        target.index = index;
+        target.isAccumulationFinal = isAccumulationFinal;
     }
 
-    private void assertPinsArePositive(int pins) {
+    /**
+     * Checks the roll against the game rules without registering it.
+     */
+    RollResult checkRoll(int pins) {
         if (pins < 0) {
-            throw new InvalidParameterException("Negative pins are not accepted");
+            return RollResult.NEGATIVE_PINS;
+        } else if (pins > getPinsInRack()) {
+            return RollResult.TOO_MANY_PINS;
+        } else if (pins > getPinsStanding()) {
+            return RollResult.TOO_MANY_PINS_IN_FRAME;
         }
+        return RollResult.ACCEPTED;
     }
 
-    private void assertPinsLessOrEqualToMaximum(int pins) {
-        if (pins > PINS_IN_FRAME) {
-            throw new InvalidParameterException("Too many pins");
+    void assertRollAccepted(int pins) {
+        RollResult result = checkRoll(pins);
+        if (result != RollResult.ACCEPTED) {
+            throw new RollRejectedException(result);
         }
     }
 
-    private void assertTotalPinsLessOrEqualToMaximum(int pins) {
-        if (pins1 + pins > PINS_IN_FRAME) {
-            throw new InvalidParameterException("Too many pins in the frame");
+    /**
+     * Shows if all the pins are set up for the next roll, so hitting all of them is a strike.
+     */
+    boolean isRackFresh() {
+        return isFirstRoll();
+    }
+
+    /**
+     * Count of pins in a full rack.
+     */
+    int getPinsInRack() {
+        return PINS_IN_FRAME;
+    }
+
+    /**
+     * Count of pins standing on the lane before the next roll in this frame.
+     */
+    int getPinsStanding() {
+        return isFirstRoll() ? PINS_IN_FRAME : PINS_IN_FRAME - pins1;
+    }
+
+    /**
+     * Count of rolls registered in this frame.
+     */
+    int getRollCount() {
+        if (pins1 == NO_PINS) {
+            return 0;
         }
+        return pins2 == NO_PINS ? 1 : 2;
+    }
+
+    /**
+     * Pins hit by the roll with given zero-bound index within this frame.
+     */
+    int getPins(int roll) {
+        return roll == 0 ? pins1 : pins2;
+    }
+
+    boolean isFirstRoll() {
+        return pins1 == NO_PINS;
+    }
+
+    boolean isStrike() {
+        return pins1 == PINS_IN_FRAME;
+    }
+
+    boolean isSpare() {
+        return pins1 + pins2 == PINS_IN_FRAME;
     }
 
 	/**
 	 * One or two symbols to show in the player's result table as a result of the frame.
 	 *
-	 * @return The list of one or two symbols to be displayed in the results table.
+	 * @return The immutable list of one or two symbols to be displayed in the results table.
 	 */
 	public List<String> getDisplaySlots() {
 		return formatter.getDisplaySlots();
@@ -1,15 +1,33 @@
 package leobro.bowling;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Produces the symbolic output of the frame's results thus that the symbols can be directly shown to the player.
+ * There are only few possible combinations of symbols, so every combination is stored once as an immutable list
+ * and the same instance is returned for every frame showing it.
  */
 class FrameResultsFormatter {
 
 	static final String EMPTY = "";
 	static final String STRIKE = "X";
+	static final String SPARE = "/";
+
+	static final int EMPTY_SYMBOL = 0;
+	static final int STRIKE_SYMBOL = 11;
+	static final int SPARE_SYMBOL = 12;
+
+	private static final String[] SYMBOLS = {
+			EMPTY, "0", "1", "2", "3", "4", "5", "6", "7", "8", "9", STRIKE, SPARE
+	};
+	private static final int SYMBOL_COUNT = SYMBOLS.length;
+	private static final int TWO_SLOTS = SYMBOL_COUNT * SYMBOL_COUNT;
+
+	private static final AtomicReferenceArray<List<String>> SLOTS =
+			new AtomicReferenceArray<>(TWO_SLOTS + TWO_SLOTS * SYMBOL_COUNT);
 
 	private Frame frame;
 
@@ -20,30 +38,40 @@ class FrameResultsFormatter {
 	/**
 	 * One or two symbols to show in the player's result table as a result of the frame.
 	 *
-	 * @return The list of one or two symbols to be displayed in the results table.
+	 * @return The immutable list of one or two symbols to be displayed in the results table.
 	 */
 	public List<String> getDisplaySlots() {
-		List<String> slots = new ArrayList<>();
-
 		if (frame.containsStrike) {
-			slots.add(EMPTY);
-			slots.add(STRIKE);
-		} else {
-			addToSlot(slots, frame.pins1);
-			if (frame.containsSpare) {
-				slots.add("/");
-			} else {
-				addToSlot(slots, frame.pins2);
-			}
+			return slotsOf(EMPTY_SYMBOL, STRIKE_SYMBOL);
 		}
-		return slots;
+		return slotsOf(pinsSymbol(frame.pins1), frame.containsSpare ? SPARE_SYMBOL : pinsSymbol(frame.pins2));
 	}
 
-	private static void addToSlot(List<String> slots, Integer pins) {
-		if (pins == null) {
-			slots.add(EMPTY);
-		} else {
-			slots.add(pins.toString());
+	/**
+	 * Symbol for the count of pins hit in a roll which can be neither strike nor spare.
+	 */
+	static int pinsSymbol(int pins) {
+		return pins == Frame.NO_PINS ? EMPTY_SYMBOL : pins + 1;
+	}
+
+	static List<String> slotsOf(int first, int second) {
+		return intern(first * SYMBOL_COUNT + second, first, second, -1);
+	}
+
+	static List<String> slotsOf(int first, int second, int third) {
+		return intern(TWO_SLOTS + (first * SYMBOL_COUNT + second) * SYMBOL_COUNT + third, first, second, third);
+	}
+
+	private static List<String> intern(int key, int first, int second, int third) {
+		List<String> slots = SLOTS.get(key);
+
+		if (slots == null) {
+			String[] symbols = third < 0
+					? new String[] { SYMBOLS[first], SYMBOLS[second] }
+					: new String[] { SYMBOLS[first], SYMBOLS[second], SYMBOLS[third] };
+			SLOTS.compareAndSet(key, null, Collections.unmodifiableList(Arrays.asList(symbols)));
+			slots = SLOTS.get(key);
 		}
+		return slots;
 	}
 }
@@ -1,9 +1,12 @@
 package leobro.bowling;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Entry point of the component. Represents a whole bowling game for several players.
@@ -11,10 +14,21 @@ import java.util.Map;
  */
 public class Game {
 
+    private static final GameListener[] NO_LISTENERS = new GameListener[0];
+
+    private static volatile GameMetrics defaultMetrics = GameMetrics.NONE;
+
+    private final RuleSet rules;
+    private final int lastFrame;
     private List<Player> players;
     private Player currentPlayer;
     private int currentFrame;
     private boolean isGameActive;
+    private volatile GameSnapshot snapshot;
+    private volatile GameListener[] listeners = NO_LISTENERS;
+    private final GameMetrics metrics;
+    private boolean isStacklessRejections;
+    private boolean isCounted;
 
     /**
      * Creates a new bowling game. The list of players can not be changed later. The given order of players will remain
@@ -23,16 +37,183 @@ public class Game {
      * @param playerNames The names of players as they will be shown in the game table.
      */
     public Game(List<String> playerNames) {
+        this(playerNames, RuleSet.TEN_PIN);
+    }
+
+    /**
+     * Creates a new bowling game played by the given rules.
+	 *
+     * @param playerNames The names of players as they will be shown in the game table.
+     * @param rules The rules of the game.
+     */
+    public Game(List<String> playerNames, RuleSet rules) {
+        this(playerNames, rules, defaultMetrics);
+    }
+
+    /**
+     * Creates a new bowling game played by the given rules and reporting to the given metrics instead of the ones
+     * installed with {@link #setMetrics(GameMetrics)}.
+     *
+     * @param playerNames The names of players as they will be shown in the game table.
+     * @param rules The rules of the game.
+     * @param metrics The metrics of the game, or {@link GameMetrics#NONE} to switch the measurements off.
+     */
+    public Game(List<String> playerNames, RuleSet rules, GameMetrics metrics) {
+        this(playerNames, rules, metrics, true);
+    }
+
+    /**
+     * Creates a new game which, like a copy, is counted as started by the {@link GameMetrics} only when reset. Used
+     * for the games replayed internally.
+     */
+    static Game uncounted(List<String> playerNames, RuleSet rules, GameMetrics metrics) {
+        return new Game(playerNames, rules, metrics, false);
+    }
+
+    private Game(List<String> playerNames, RuleSet rules, GameMetrics metrics, boolean isCounted) {
+        this.rules = Objects.requireNonNull(rules);
+        this.metrics = Objects.requireNonNull(metrics);
+        lastFrame = rules.getFrames() - 1;
         isGameActive = true;
 		players = new ArrayList<>();
 
         for (int i = 0; i < playerNames.size(); i++) {
-            Player player = new Player(i, playerNames.get(i));
+            Player player = new Player(i, playerNames.get(i), rules);
             players.add(i, player);
         }
 
 		currentFrame = 0;
         activateFirstPlayer();
+        this.isCounted = isCounted;
+        if (isCounted) {
+            metrics.gameStarted();
+        }
+    }
+
+    private Game(Game source) {
+        rules = source.rules;
+        metrics = source.metrics;
+        lastFrame = source.lastFrame;
+        players = new ArrayList<>(source.players.size());
+        for (Player player : source.players) {
+            players.add(player.copy());
+        }
+        currentPlayer = players.get(source.currentPlayer.getIndex());
+        currentFrame = source.currentFrame;
+        isGameActive = source.isGameActive;
+        isStacklessRejections = source.isStacklessRejections;
+    }
+
+    /**
+     * Creates an independent game in the same state as this one, e.g. to try an alternative continuation. Rolls
+     * registered in one of the games do not affect the other one. The frames which can not change any more are
+     * shared between the games, so a copy is much cheaper than replaying the rolls. Neither the listeners nor
+     * the snapshots are copied, and the copy is not counted as a started game by the {@link GameMetrics} unless it
+     * is reset.
+	 *
+     * @return The copy of the game.
+     */
+    public Game copy() {
+        return new Game(this);
+    }
+
+    /**
+     * Clears all the results and starts the game again with the same players, reusing the objects of the game
+     * instead of creating a new one. The listeners stay registered. For the {@link GameMetrics}, a game reset before
+     * its end is finished and a new one is started.
+     */
+    public void reset() {
+        for (Player player : players) {
+            player.reset();
+        }
+        restart();
+    }
+
+    /**
+     * Clears all the results and starts a new game of the given players in place of this one, like a game created
+     * with {@link #Game(List)}. The objects of the game are reused, so nothing is allocated unless there are more
+     * players than before. The listeners stay registered.
+	 *
+     * @param playerNames The names of players as they will be shown in the game table.
+     */
+    public void reset(List<String> playerNames) {
+        while (players.size() > playerNames.size()) {
+            players.remove(players.size() - 1);
+        }
+        for (int i = 0; i < playerNames.size(); i++) {
+            if (i < players.size()) {
+                players.get(i).reset(playerNames.get(i));
+            } else {
+                players.add(new Player(i, playerNames.get(i), rules));
+            }
+        }
+        restart();
+    }
+
+    /**
+     * Tells the listeners that the game is released, removes them and stops publishing the snapshots, so that the game
+     * does not keep references to its previous users. A game released before its end is reported as finished to
+     * the {@link GameMetrics}.
+     */
+    void detach() {
+        stopCounting();
+        GameListener[] released;
+        synchronized (this) {
+            released = listeners;
+            listeners = NO_LISTENERS;
+        }
+        for (GameListener listener : released) {
+            try {
+                listener.gameReleased(this);
+            } catch (RuntimeException e) {
+                reportListenerFailure(e);
+            }
+        }
+        snapshot = null;
+    }
+
+    private void restart() {
+        currentFrame = 0;
+        activateFirstPlayer();
+
+        isGameActive = true;
+        stopCounting();
+        isCounted = true;
+        metrics.gameStarted();
+        if (snapshot != null) {
+            enableSnapshots();
+        }
+        for (GameListener listener : listeners) {
+            try {
+                listener.gameReset(this);
+            } catch (RuntimeException e) {
+                reportListenerFailure(e);
+            }
+        }
+    }
+
+    /**
+     * Installs the default metrics for all the games created afterwards without metrics of their own. The games
+     * created earlier, and their copies, keep reporting to the metrics of the moment of their creation.
+	 *
+     * @param metrics The metrics, or {@link GameMetrics#NONE} to switch the measurements off.
+     */
+    public static void setMetrics(GameMetrics metrics) {
+        defaultMetrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Returns the default metrics installed for the new games.
+     */
+    public static GameMetrics getMetrics() {
+        return defaultMetrics;
+    }
+
+    /**
+     * Returns the metrics this game reports to.
+     */
+    GameMetrics getGameMetrics() {
+        return metrics;
     }
 
     /**
@@ -49,6 +230,29 @@ public class Game {
         return names;
     }
 
+    /**
+     * Returns the count of players in this game.
+	 *
+     * @return The count of players.
+     */
+    public int getPlayerCount() {
+        return players.size();
+    }
+
+    Player getPlayer(int playerIndex) {
+        return players.get(playerIndex);
+    }
+
+    /**
+     * Returns the name of the player with given index, without building the map of {@link #getPlayers()}.
+	 *
+     * @param playerIndex The index of the player.
+     * @return The name of the player.
+     */
+    public String getPlayerName(int playerIndex) {
+        return players.get(playerIndex).getName();
+    }
+
     /**
      * Returns the index for the player in the list of players, who will roll the next bowl (not yet registered).
 	 *
@@ -69,16 +273,27 @@ public class Game {
     }
 
     /**
-     * Returns the full table of results for the player with given index.
+     * Returns the full table of results for the player with given index. The frames are live and change with every
+     * roll; a thread other than the one registering the rolls should read the {@link #getSnapshot() snapshot}.
 	 *
      * @param playerIndex The index of the player.
      * @return The results table for the player where {@link Frame#getDisplaySlots() display slots} contain symbols
      * ready for display according to bowling rules.
      */
     public Frame[] getPlayerResultsTable(int playerIndex) {
+        metrics.scoreboardRendered();
         return players.get(playerIndex).getResultsTable();
     }
 
+    /**
+     * Returns the rules of the game.
+	 *
+     * @return the rules given when the game was created.
+     */
+    public RuleSet getRuleSet() {
+        return rules;
+    }
+
     /**
      * Returns the current frame index (zero-bound).
 	 *
@@ -88,6 +303,24 @@ public class Game {
         return currentFrame;
     }
 
+    /**
+     * Returns the count of pins standing on the lane for the next roll.
+	 *
+     * @return the count of pins from 1 to 10, or zero if the game is over.
+     */
+    public int getPinsStanding() {
+        return isGameActive ? currentPlayer.getPinsStanding() : 0;
+    }
+
+    /**
+     * Shows if all the pins have been set up for the next roll, so that hitting all of them will be a strike.
+	 *
+     * @return {@literal true} if the next roll is the first one in a rack; otherwise, {@literal false}.
+     */
+    public boolean isRackFresh() {
+        return isGameActive && currentPlayer.isRackFresh();
+    }
+
     /**
      * Shows if the game still continues or is over.
 	 *
@@ -120,19 +353,250 @@ public class Game {
         return winner;
     }
 
+    /**
+     * Returns all the players sharing the highest score when the game is over.
+	 *
+     * @return The zero-bound indexes of the game winners in the order of players; an empty list if the game is
+     * still going.
+     */
+    public List<Integer> getWinners() {
+        if (isGameActive) {
+            return Collections.emptyList();
+        }
+
+        List<Integer> winners = new ArrayList<>();
+        int maxScore = 0;
+
+        for (Player player : players) {
+            if (player.getCurrentScore() > maxScore) {
+                winners.clear();
+                maxScore = player.getCurrentScore();
+            }
+            if (player.getCurrentScore() == maxScore) {
+                winners.add(player.getIndex());
+            }
+        }
+        return winners;
+    }
+
+    /**
+     * Starts publishing a {@link GameSnapshot} after every roll. Readers in other threads can then obtain consistent
+     * results with {@link #getSnapshot()} without blocking the thread registering the rolls. The snapshot of the
+     * current state is published immediately.
+     */
+    public void enableSnapshots() {
+        snapshot = GameSnapshot.of(players, getNextPlayer(), currentFrame, isGameActive);
+    }
+
+    /**
+     * Returns the snapshot published after the last roll. May be called from any thread.
+	 *
+     * @return The immutable state of the game after the last registered roll.
+     * @throws IllegalStateException if publishing of snapshots was not {@link #enableSnapshots() enabled}.
+     */
+    public GameSnapshot getSnapshot() {
+        GameSnapshot current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("Snapshots are not enabled");
+        }
+        return current;
+    }
+
     /**
      * Used to register the result of rolling of the current bowl. The game determines itself which player rolled
-	 * the bowl and which player will throw the next.
+	 * the bowl and which player will throw the next. A roll after the end of the game is ignored.
 	 *
      * @param pins The count of pins hit by this throw.
+     * @throws RollRejectedException if the roll breaks the rules. The game stays in the state before that roll.
+     *         An exception of a {@link GameListener} is not thrown here, see {@link GameListener}.
      */
     public void roll(int pins) {
-        if (isGameActive) {
-            currentPlayer.roll(pins);
+        RollResult result = tryRoll(pins);
+        if (result != RollResult.ACCEPTED && result != RollResult.GAME_OVER) {
+            throw isStacklessRejections ? RollRejectedException.stackless(result) : new RollRejectedException(result);
+        }
+    }
+
+    /**
+     * Registers the roll like {@link #roll(int)}, but reports a roll breaking the rules by the result instead of
+     * an exception, which is much cheaper when invalid readings of the lane sensors are frequent.
+	 *
+     * @param pins The count of pins hit by this throw.
+     * @return {@link RollResult#ACCEPTED} if the roll is registered, or the reason why it is rejected. The game stays
+     * in the state before a rejected roll.
+     */
+    public RollResult tryRoll(int pins) {
+        if (!isGameActive) {
+            return RollResult.GAME_OVER;
+        }
+
+        RollResult result = currentPlayer.checkRoll(pins);
+        if (result != RollResult.ACCEPTED) {
+            metrics.rollRejected();
+            return result;
+        }
+
+        Player player;
+        if (metrics.isEnabled()) {
+            long start = System.nanoTime();
+            player = registerRoll(pins);
+            metrics.rollsRegistered(1, System.nanoTime() - start);
+        } else {
+            player = registerRoll(pins);
+        }
 
-            if (currentPlayer.isFrameComplete(currentFrame)) {
+        GameSnapshot previous = snapshot;
+        if (previous != null) {
+            snapshot = previous.update(player, getNextPlayer(), currentFrame, isGameActive);
+        }
+        return RollResult.ACCEPTED;
+    }
+
+    /**
+     * Makes {@link #roll(int)} throw exceptions without a stack trace. Saves the cost of the stack trace when invalid
+     * rolls are frequent.
+	 *
+     * @param isStackless {@code true} to throw the exceptions without a stack trace.
+     */
+    public void setStacklessRejections(boolean isStackless) {
+        isStacklessRejections = isStackless;
+    }
+
+    /**
+     * Registers a batch of rolls, e.g. results buffered by the lane hardware. The rolls are applied in the given order
+     * until the batch is exhausted, the game is over or a roll breaks the rules. An invalid roll is not registered,
+     * and the game stays in the state before that roll.
+	 *
+     * @param pins The array containing the count of pins hit by every throw.
+     * @param offset The index of the first roll in the array.
+     * @param length The count of rolls in the batch.
+     * @return The count of registered rolls. If it is less than {@code length}, then the batch stopped at the roll
+     * with index {@code offset} plus the returned value, because either the game is over or that roll is invalid.
+     */
+    public int rollAll(int[] pins, int offset, int length) {
+        if (offset < 0 || length < 0 || length > pins.length - offset) {
+            throw new IndexOutOfBoundsException("Batch is out of the array bounds");
+        }
+
+        long start = metrics.isEnabled() ? System.nanoTime() : 0;
+        int count = 0;
+        while (count < length && isGameActive) {
+            int roll = pins[offset + count];
+            if (currentPlayer.checkRoll(roll) != RollResult.ACCEPTED) {
+                metrics.rollRejected();
+                break;
+            }
+
+            registerRoll(roll);
+            count++;
+        }
+        if (count > 0 && metrics.isEnabled()) {
+            metrics.rollsRegistered(count, System.nanoTime() - start);
+        }
+
+        if (count > 0 && snapshot != null) {
+            snapshot = GameSnapshot.of(players, getNextPlayer(), currentFrame, isGameActive);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the player who rolled.
+     */
+    private Player registerRoll(int pins) {
+        Player player = currentPlayer;
+        int frameIndex = currentFrame;
+        GameListener[] listeners = this.listeners;
+
+        if (listeners.length == 0) {
+            player.roll(pins);
+            if (player.isFrameComplete(frameIndex)) {
                 activateNextPlayer();
             }
+            return player;
+        }
+
+        Frame[] frames = player.getResultsTable();
+        Frame frame = frames[frameIndex];
+        boolean isRackFresh = frame.isRackFresh();
+        int pinsStanding = frame.getPinsStanding();
+        int pendingFrames = 0;
+        for (int i = Math.max(0, frameIndex - 2); i < frameIndex; i++) {
+            if (frames[i].hasPendingRolls()) {
+                pendingFrames |= 1 << (frameIndex - i);
+            }
+        }
+
+        player.roll(pins);
+        if (player.isFrameComplete(frameIndex)) {
+            activateNextPlayer();
+        }
+
+        int index = player.getIndex();
+        for (GameListener listener : listeners) {
+            try {
+                listener.rollRegistered(this, index, frameIndex, pins);
+
+                if (pins == pinsStanding && isRackFresh) {
+                    listener.strike(this, index, frameIndex);
+                } else if (pins == pinsStanding) {
+                    listener.spare(this, index, frameIndex);
+                }
+                for (int i = Math.max(0, frameIndex - 2); i < frameIndex; i++) {
+                    if ((pendingFrames & 1 << (frameIndex - i)) != 0 && !frames[i].hasPendingRolls()) {
+                        listener.bonusResolved(this, index, i, frames[i].getScore());
+                    }
+                }
+                if (frame.isComplete()) {
+                    listener.frameCompleted(this, index, frameIndex);
+                }
+                if (pins > 0) {
+                    listener.scoreUpdated(this, index, player.getCurrentScore());
+                }
+                if (!isGameActive) {
+                    listener.gameOver(this);
+                }
+            } catch (RuntimeException e) {
+                reportListenerFailure(e);
+            }
+        }
+        return player;
+    }
+
+    /**
+     * Passes the exception of a listener to the uncaught exception handler of the current thread. The roll is already
+     * registered at that moment, so the failure must neither undo it nor reach the caller of {@link #roll(int)}.
+     */
+    private static void reportListenerFailure(RuntimeException e) {
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+    }
+
+    /**
+     * Adds the listener which will receive the events of all the following rolls. The listeners may be added and
+     * removed from any thread; a roll running at the same moment is reported to the listeners registered before it.
+	 *
+     * @param listener The listener to add.
+     */
+    public synchronized void addListener(GameListener listener) {
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+    }
+
+    /**
+     * Removes the listener added earlier.
+	 *
+     * @param listener The listener to remove.
+     */
+    public synchronized void removeListener(GameListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                GameListener[] remaining = new GameListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, remaining, 0, i);
+                System.arraycopy(listeners, i + 1, remaining, i, remaining.length - i);
+                listeners = remaining;
+                return;
+            }
         }
     }
 
@@ -150,7 +614,7 @@ public class Game {
     }
 
     private boolean isTheLastFrame() {
-        return currentFrame == 9;
+        return currentFrame == lastFrame;
     }
 
     private boolean isTheLastPlayer() {
@@ -167,5 +631,16 @@ public class Game {
 
     private void setGameOver() {
         isGameActive = false;
+        stopCounting();
+    }
+
+    /**
+     * Reports the counted game as finished, whether it is over or abandoned by a reset or a release.
+     */
+    private void stopCounting() {
+        if (isCounted) {
+            isCounted = false;
+            metrics.gameFinished();
+        }
     }
 }
@@ -0,0 +1,252 @@
+package leobro.bowling;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary encoding of a {@link Game} for storage and transport. Only the player names and the rolls of every
+ * player are stored; all the other state, including the current player and frame, is restored by replaying the rolls.
+ * <p>
+ * Format: a version byte and a player count byte, then for every player the length of the name in UTF-8 bytes as
+ * a short, the name, the count of rolls as a byte and the rolls packed in 4 bits each, two rolls per byte.
+ * A complete game of one player with a short name takes less than 20 bytes.
+ */
+public final class GameCodec {
+
+	private static final int VERSION = 1;
+	private static final int MAX_PLAYERS = 255;
+	private static final int MAX_ROLLS = 21;
+	private static final int MAX_PINS = RuleSet.TEN_PIN.getPins();
+
+	private GameCodec() {
+	}
+
+	/**
+	 * Returns the count of bytes needed to encode the game.
+	 *
+	 * @param game The game to encode.
+	 * @return The size of the encoded game in bytes.
+	 */
+	public static int encodedSize(Game game) {
+		int size = 2;
+		for (int i = 0; i < game.getPlayerCount(); i++) {
+			Player player = game.getPlayer(i);
+			size += 2 + utf8Length(player.getName()) + 1 + (countRolls(player) + 1) / 2;
+		}
+		return size;
+	}
+
+	/**
+	 * Writes the game to the buffer starting at its current position. Does not allocate any objects.
+	 *
+	 * @param game The game to encode.
+	 * @param buffer The buffer with at least {@link #encodedSize(Game)} bytes remaining.
+	 * @throws IllegalArgumentException if the game has more than 255 players or is not a ten-pin game.
+	 * @throws java.nio.BufferOverflowException if the buffer has not enough space.
+	 */
+	public static void encode(Game game, ByteBuffer buffer) {
+		int playerCount = game.getPlayerCount();
+		if (playerCount > MAX_PLAYERS) {
+			throw new IllegalArgumentException("Too many players to encode");
+		}
+		if (game.getRuleSet() != RuleSet.TEN_PIN) {
+			throw new IllegalArgumentException("Only ten-pin games can be encoded");
+		}
+
+		buffer.put((byte) VERSION);
+		buffer.put((byte) playerCount);
+
+		for (int i = 0; i < playerCount; i++) {
+			Player player = game.getPlayer(i);
+			encodeName(player.getName(), buffer);
+			encodeRolls(player.getResultsTable(), countRolls(player), buffer);
+		}
+	}
+
+	/**
+	 * Reads a game from the buffer starting at its current position and restores it by replaying the rolls.
+	 *
+	 * @param buffer The buffer containing the encoded game.
+	 * @return The restored game.
+	 * @throws IllegalArgumentException if the buffer does not contain a valid game.
+	 */
+	public static Game decode(ByteBuffer buffer) {
+		return decode(buffer, null);
+	}
+
+	/**
+	 * Reads a game from the buffer like {@link #decode(ByteBuffer)}, but restores it into the given game, which is
+	 * {@link Game#reset(List) reset} with the decoded players instead of creating a new one. Saves the objects of
+	 * the game when many games are decoded one after another.
+	 *
+	 * @param buffer The buffer containing the encoded game.
+	 * @param game The ten-pin game to reuse, or {@code null} to create a new one.
+	 * @return The restored game.
+	 * @throws IllegalArgumentException if the buffer does not contain a valid game.
+	 */
+	public static Game decode(ByteBuffer buffer, Game game) {
+		if (game != null && game.getRuleSet() != RuleSet.TEN_PIN) {
+			throw new IllegalArgumentException("Only ten-pin games can be decoded");
+		}
+
+		try {
+			if (buffer.get() != VERSION) {
+				throw new IllegalArgumentException("Unknown encoding version");
+			}
+
+			int playerCount = buffer.get() & 0xFF;
+			if (playerCount == 0) {
+				throw new IllegalArgumentException("Encoded game has no players");
+			}
+			List<String> names = new ArrayList<>(playerCount);
+			int[][] rolls = new int[playerCount][];
+
+			for (int i = 0; i < playerCount; i++) {
+				names.add(decodeName(buffer));
+				rolls[i] = decodeRolls(buffer);
+			}
+
+			if (game == null) {
+				game = new Game(names);
+			} else {
+				game.reset(names);
+			}
+			return replay(game, rolls);
+		} catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("Encoded game is truncated", e);
+		}
+	}
+
+	private static Game replay(Game game, int[][] rolls) {
+		int[] positions = new int[rolls.length];
+
+		while (game.isGameActive()) {
+			int player = game.getNextPlayer();
+			if (positions[player] == rolls[player].length) {
+				break;
+			}
+			game.roll(rolls[player][positions[player]++]);
+		}
+
+		for (int i = 0; i < rolls.length; i++) {
+			if (positions[i] != rolls[i].length) {
+				throw new IllegalArgumentException("Rolls of the player " + i + " do not match the game");
+			}
+		}
+		return game;
+	}
+
+	private static int countRolls(Player player) {
+		int count = 0;
+		for (Frame frame : player.getResultsTable()) {
+			count += frame.getRollCount();
+		}
+		return count;
+	}
+
+	private static void encodeRolls(Frame[] frames, int count, ByteBuffer buffer) {
+		buffer.put((byte) count);
+
+		int packed = 0;
+		int index = 0;
+		for (Frame frame : frames) {
+			for (int roll = 0; roll < frame.getRollCount(); roll++) {
+				packed |= frame.getPins(roll) << ((index & 1) * 4);
+				if ((index & 1) == 1) {
+					buffer.put((byte) packed);
+					packed = 0;
+				}
+				index++;
+			}
+		}
+		if ((index & 1) == 1) {
+			buffer.put((byte) packed);
+		}
+	}
+
+	private static int[] decodeRolls(ByteBuffer buffer) {
+		int count = buffer.get() & 0xFF;
+		if (count > MAX_ROLLS) {
+			throw new IllegalArgumentException("Too many rolls for one player");
+		}
+
+		int[] rolls = new int[count];
+		int packed = 0;
+		for (int i = 0; i < count; i++) {
+			if ((i & 1) == 0) {
+				packed = buffer.get() & 0xFF;
+			}
+			rolls[i] = (packed >>> ((i & 1) * 4)) & 0x0F;
+			if (rolls[i] > MAX_PINS) {
+				throw new IllegalArgumentException("Invalid count of pins in a roll");
+			}
+		}
+		return rolls;
+	}
+
+	private static int utf8Length(String name) {
+		int length = 0;
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (c < 0x80) {
+				length += 1;
+			} else if (c < 0x800) {
+				length += 2;
+			} else if (Character.isHighSurrogate(c) && i + 1 < name.length()
+					&& Character.isLowSurrogate(name.charAt(i + 1))) {
+				length += 4;
+				i++;
+			} else {
+				length += 3;
+			}
+		}
+		return length;
+	}
+
+	/**
+	 * Writes the name in UTF-8 directly into the buffer, to avoid the intermediate byte array of
+	 * {@link String#getBytes}.
+	 */
+	private static void encodeName(String name, ByteBuffer buffer) {
+		int length = utf8Length(name);
+		if (length > Short.MAX_VALUE) {
+			throw new IllegalArgumentException("Player name is too long to encode");
+		}
+		buffer.putShort((short) length);
+
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (c < 0x80) {
+				buffer.put((byte) c);
+			} else if (c < 0x800) {
+				buffer.put((byte) (0xC0 | (c >> 6)));
+				buffer.put((byte) (0x80 | (c & 0x3F)));
+			} else if (Character.isHighSurrogate(c) && i + 1 < name.length()
+					&& Character.isLowSurrogate(name.charAt(i + 1))) {
+				int codePoint = Character.toCodePoint(c, name.charAt(++i));
+				buffer.put((byte) (0xF0 | (codePoint >> 18)));
+				buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+				buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+				buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+			} else {
+				buffer.put((byte) (0xE0 | (c >> 12)));
+				buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+				buffer.put((byte) (0x80 | (c & 0x3F)));
+			}
+		}
+	}
+
+	private static String decodeName(ByteBuffer buffer) {
+		int length = buffer.getShort();
+		if (length < 0) {
+			throw new IllegalArgumentException("Invalid length of the player name");
+		}
+
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,103 @@
+package leobro.bowling;
+
+import java.util.List;
+
+/**
+ * Receives the events of a {@link Game}. The methods are called in the thread registering the roll, right after
+ * the roll is registered, in the order: roll registered, strike or spare, bonus resolved, frame completed, score
+ * updated, game over. All methods do nothing by default, so a listener overrides only the events it needs.
+ * An exception thrown by a listener does not undo the roll and is not thrown to the caller registering it: it is
+ * passed to the uncaught exception handler of the current thread, the listener misses the remaining events of that
+ * roll, and the other listeners receive them as usual. A listener doing slow work should be wrapped into
+ * {@link AsyncGameListener}.
+ */
+public interface GameListener {
+
+	/**
+	 * A roll has been registered.
+	 *
+	 * @param game The game.
+	 * @param playerIndex The index of the player who rolled.
+	 * @param frameIndex The index of the frame of the roll.
+	 * @param pins The count of pins hit.
+	 */
+	default void rollRegistered(Game game, int playerIndex, int frameIndex, int pins) {
+	}
+
+	/**
+	 * The roll hit all the pins of a freshly set rack.
+	 *
+	 * @param game The game.
+	 * @param playerIndex The index of the player who rolled.
+	 * @param frameIndex The index of the frame of the roll.
+	 */
+	default void strike(Game game, int playerIndex, int frameIndex) {
+	}
+
+	/**
+	 * The roll hit all the pins left standing after the previous roll.
+	 *
+	 * @param game The game.
+	 * @param playerIndex The index of the player who rolled.
+	 * @param frameIndex The index of the frame of the roll.
+	 */
+	default void spare(Game game, int playerIndex, int frameIndex) {
+	}
+
+	/**
+	 * An earlier frame with a strike or spare has received all its bonus rolls, so its score is final.
+	 *
+	 * @param game The game.
+	 * @param playerIndex The index of the player.
+	 * @param frameIndex The index of the frame which has got its final score.
+	 * @param frameScore The final score of the frame.
+	 */
+	default void bonusResolved(Game game, int playerIndex, int frameIndex, int frameScore) {
+	}
+
+	/**
+	 * The player has no more rolls in the frame.
+	 *
+	 * @param game The game.
+	 * @param playerIndex The index of the player.
+	 * @param frameIndex The index of the completed frame.
+	 */
+	default void frameCompleted(Game game, int playerIndex, int frameIndex) {
+	}
+
+	/**
+	 * The score of the player has changed.
+	 *
+	 * @param game The game.
+	 * @param playerIndex The index of the player.
+	 * @param score The new score of the player.
+	 */
+	default void scoreUpdated(Game game, int playerIndex, int score) {
+	}
+
+	/**
+	 * The last roll of the game has been registered.
+	 *
+	 * @param game The game.
+	 */
+	default void gameOver(Game game) {
+	}
+
+	/**
+	 * The game has been {@link Game#reset(List) reset} and starts again, possibly with other players. All the scores
+	 * are zero.
+	 *
+	 * @param game The game.
+	 */
+	default void gameReset(Game game) {
+	}
+
+	/**
+	 * The game has been returned to a {@link GamePool} and will be reused for other players. The listener is removed
+	 * from the game right after this event, so it should forget the game.
+	 *
+	 * @param game The game.
+	 */
+	default void gameReleased(Game game) {
+	}
+}
@@ -0,0 +1,65 @@
+package leobro.bowling;
+
+/**
+ * Receives the measurements of the games, e.g. to expose them to a monitoring system. The metrics are given to a game
+ * or a {@link GamePool} when it is created, or installed as the default for all the games created afterwards with
+ * {@link Game#setMetrics(GameMetrics)}. All methods do nothing by default, and
+ * the {@link #NONE} metrics are switched off entirely: a game does not even read the clock for them.
+ * The methods are called in the thread registering the roll, so they must be cheap and thread-safe,
+ * see {@link LongAdderMetrics}.
+ */
+public interface GameMetrics {
+
+	/**
+	 * The metrics that measure nothing. This is the default.
+	 */
+	GameMetrics NONE = new GameMetrics() {
+		@Override
+		public boolean isEnabled() {
+			return false;
+		}
+	};
+
+	/**
+	 * Tells whether the games should measure anything for these metrics.
+	 *
+	 * @return {@code false} if the games may skip the measurements.
+	 */
+	default boolean isEnabled() {
+		return true;
+	}
+
+	/**
+	 * A game has been created, or started again by a reset. Copies of games are not counted, see {@link Game#copy()}.
+	 */
+	default void gameStarted() {
+	}
+
+	/**
+	 * A game counted as started is over, or is abandoned by a reset or a release to a {@link GamePool}.
+	 */
+	default void gameFinished() {
+	}
+
+	/**
+	 * Rolls have been registered.
+	 *
+	 * @param count The count of rolls, one for {@link Game#roll(int)}, or the batch size for
+	 *              {@link Game#rollAll(int[], int, int)}.
+	 * @param nanos The time spent registering the rolls, in nanoseconds.
+	 */
+	default void rollsRegistered(int count, long nanos) {
+	}
+
+	/**
+	 * A roll has been rejected as breaking the rules.
+	 */
+	default void rollRejected() {
+	}
+
+	/**
+	 * The results table of a player has been requested to show the scoreboard.
+	 */
+	default void scoreboardRendered() {
+	}
+}
@@ -0,0 +1,148 @@
+package leobro.bowling;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps finished games to start new ones in place with {@link Game#reset(List)}, so that starting a game does not
+ * allocate the players and the frames once the pool has warmed up. Idle games are grouped by the rules and the count
+ * of players, and a game is reused only for the same rules and count of players. The statistics tell how well the
+ * pool works: the hit rate is the share of games started without allocating a new game.
+ * <p>
+ * The pool is thread-safe. A game must be released only once and must not be used after it is released.
+ */
+public class GamePool {
+
+	/**
+	 * The default maximum count of idle games kept by the pool.
+	 */
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	private final int capacity;
+	private final GameMetrics metrics;
+	private final Map<RuleSet, Map<Integer, ArrayDeque<Game>>> idleGames = new HashMap<>();
+	private int idleCount;
+	private long acquireCount;
+	private long hitCount;
+
+	/**
+	 * Creates the pool keeping up to {@link #DEFAULT_CAPACITY} idle games.
+	 */
+	public GamePool() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates the pool.
+	 *
+	 * @param capacity The maximum count of idle games kept by the pool. Games released beyond it are dropped.
+	 */
+	public GamePool(int capacity) {
+		this(capacity, null);
+	}
+
+	/**
+	 * Creates the pool of games reporting to the given metrics.
+	 *
+	 * @param capacity The maximum count of idle games kept by the pool. Games released beyond it are dropped.
+	 * @param metrics The metrics of the games created by the pool, or {@code null} for the default metrics
+	 *                installed with {@link Game#setMetrics(GameMetrics)} when a game is created.
+	 */
+	public GamePool(int capacity, GameMetrics metrics) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity must not be negative");
+		}
+		this.capacity = capacity;
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Starts a new ten-pin game, reusing an idle game of the same count of players if there is one.
+	 *
+	 * @param playerNames The names of players as they will be shown in the game table.
+	 * @return The new game.
+	 */
+	public Game acquire(List<String> playerNames) {
+		return acquire(playerNames, RuleSet.TEN_PIN);
+	}
+
+	/**
+	 * Starts a new game, reusing an idle game of the same rules and count of players if there is one.
+	 *
+	 * @param playerNames The names of players as they will be shown in the game table.
+	 * @param rules The rules of the game.
+	 * @return The new game.
+	 */
+	public synchronized Game acquire(List<String> playerNames, RuleSet rules) {
+		acquireCount++;
+
+		Map<Integer, ArrayDeque<Game>> gamesOfRules = idleGames.get(rules);
+		ArrayDeque<Game> games = gamesOfRules == null ? null : gamesOfRules.get(playerNames.size());
+		if (games == null || games.isEmpty()) {
+			return metrics == null ? new Game(playerNames, rules) : new Game(playerNames, rules, metrics);
+		}
+
+		hitCount++;
+		idleCount--;
+		Game game = games.pop();
+		game.reset(playerNames);
+		return game;
+	}
+
+	/**
+	 * Returns the game to the pool. Its listeners are told about the release and removed, and its snapshots are no
+	 * longer published, also when the pool is full and drops the game.
+	 *
+	 * @param game The game acquired from this pool or created elsewhere.
+	 */
+	public synchronized void release(Game game) {
+		game.detach();
+		if (idleCount == capacity) {
+			return;
+		}
+
+		idleGames.computeIfAbsent(game.getRuleSet(), rules -> new HashMap<>())
+				.computeIfAbsent(game.getPlayerCount(), count -> new ArrayDeque<>())
+				.push(game);
+		idleCount++;
+	}
+
+	/**
+	 * Returns the count of games kept idle by the pool.
+	 */
+	public synchronized int getIdleCount() {
+		return idleCount;
+	}
+
+	/**
+	 * Returns the count of games started with {@link #acquire(List)}.
+	 */
+	public synchronized long getAcquireCount() {
+		return acquireCount;
+	}
+
+	/**
+	 * Returns the count of games started by reusing an idle game.
+	 */
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Returns the count of games allocated by the pool because no idle game fitted.
+	 */
+	public synchronized long getAllocationCount() {
+		return acquireCount - hitCount;
+	}
+
+	/**
+	 * Returns the share of games started by reusing an idle game.
+	 *
+	 * @return The hit rate from 0 to 1, or zero if no games were started.
+	 */
+	public synchronized double getHitRate() {
+		return acquireCount == 0 ? 0 : (double) hitCount / acquireCount;
+	}
+}
@@ -0,0 +1,142 @@
+package leobro.bowling;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replays a game from any roll position, e.g. to answer "what if the roll 14 had been a strike". The rolls of the game
+ * are recorded in the order they were played, together with a {@link Game#copy() copy} of the game taken every few
+ * rolls. A fork at a roll position copies the nearest preceding checkpoint and replays at most a few rolls, instead of
+ * replaying the whole game from the beginning.
+ * <p>
+ * The replay is immutable and every fork is an independent game, so thousands of alternative continuations may be
+ * simulated in parallel, e.g. from a parallel stream.
+ */
+public class GameReplay {
+
+	/**
+	 * The default count of rolls between two checkpoints.
+	 */
+	public static final int DEFAULT_CHECKPOINT_INTERVAL = 4;
+
+	private final int[] rolls;
+	private final Game[] checkpoints;
+	private final int checkpointInterval;
+
+	/**
+	 * Records the rolls of the game registered so far, with the default interval between checkpoints.
+	 *
+	 * @param game The game to replay. Later rolls of the game are not seen by the replay.
+	 */
+	public GameReplay(Game game) {
+		this(game, DEFAULT_CHECKPOINT_INTERVAL);
+	}
+
+	/**
+	 * Records the rolls of the game registered so far.
+	 *
+	 * @param game The game to replay. Later rolls of the game are not seen by the replay.
+	 * @param checkpointInterval The count of rolls between two checkpoints. A shorter interval makes the forks cheaper
+	 *                           at the cost of memory.
+	 */
+	public GameReplay(Game game, int checkpointInterval) {
+		if (checkpointInterval < 1) {
+			throw new IllegalArgumentException("Checkpoint interval must be positive");
+		}
+		this.checkpointInterval = checkpointInterval;
+
+		int playerCount = game.getPlayerCount();
+		List<String> names = new ArrayList<>(playerCount);
+		int[][] playerRolls = new int[playerCount][];
+		int rollCount = 0;
+		for (int i = 0; i < playerCount; i++) {
+			Player player = game.getPlayer(i);
+			names.add(player.getName());
+			playerRolls[i] = rollsOf(player);
+			rollCount += playerRolls[i].length;
+		}
+
+		rolls = new int[rollCount];
+		checkpoints = new Game[rollCount / checkpointInterval + 1];
+		Game replayed = Game.uncounted(names, game.getRuleSet(), game.getGameMetrics());
+		int[] positions = new int[playerCount];
+		for (int i = 0; i < rollCount; i++) {
+			if (i % checkpointInterval == 0) {
+				checkpoints[i / checkpointInterval] = replayed.copy();
+			}
+			int player = replayed.getNextPlayer();
+			rolls[i] = playerRolls[player][positions[player]++];
+			replayed.roll(rolls[i]);
+		}
+		if (rollCount % checkpointInterval == 0) {
+			checkpoints[rollCount / checkpointInterval] = replayed.copy();
+		}
+	}
+
+	/**
+	 * Returns the count of rolls recorded.
+	 */
+	public int getRollCount() {
+		return rolls.length;
+	}
+
+	/**
+	 * Returns the pins hit by the roll.
+	 *
+	 * @param rollIndex The zero-based index of the roll in the order the rolls were played.
+	 * @return The count of pins.
+	 */
+	public int getRoll(int rollIndex) {
+		return rolls[rollIndex];
+	}
+
+	/**
+	 * Creates a game in the state right before the given roll.
+	 *
+	 * @param rollIndex The zero-based index of the roll, or the count of rolls for the state after the last roll.
+	 * @return The new game, independent of the replay and of the other forks.
+	 * @throws IndexOutOfBoundsException if there is no such roll position.
+	 */
+	public Game forkAt(int rollIndex) {
+		if (rollIndex < 0 || rollIndex > rolls.length) {
+			throw new IndexOutOfBoundsException("No roll position " + rollIndex);
+		}
+
+		Game fork = checkpoints[rollIndex / checkpointInterval].copy();
+		int start = rollIndex - rollIndex % checkpointInterval;
+		fork.rollAll(rolls, start, rollIndex - start);
+		return fork;
+	}
+
+	/**
+	 * Creates a game in which the given roll and the following ones are replaced by the alternative continuation.
+	 * The continuation stops at the end of the game or at the first roll breaking the rules.
+	 *
+	 * @param rollIndex The zero-based index of the first replaced roll.
+	 * @param continuation The pins hit by the alternative rolls.
+	 * @return The new game, independent of the replay and of the other forks.
+	 * @throws IndexOutOfBoundsException if there is no such roll position.
+	 */
+	public Game whatIf(int rollIndex, int... continuation) {
+		Game fork = forkAt(rollIndex);
+		fork.rollAll(continuation, 0, continuation.length);
+		return fork;
+	}
+
+	private static int[] rollsOf(Player player) {
+		Frame[] frames = player.getResultsTable();
+		int count = 0;
+		for (Frame frame : frames) {
+			count += frame.getRollCount();
+		}
+
+		int[] result = new int[count];
+		int index = 0;
+		for (Frame frame : frames) {
+			for (int roll = 0; roll < frame.getRollCount(); roll++) {
+				result[index++] = frame.getPins(roll);
+			}
+		}
+		return result;
+	}
+}
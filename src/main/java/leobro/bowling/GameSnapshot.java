@@ -0,0 +1,155 @@
+package leobro.bowling;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable copy of the state of a {@link Game} taken after a roll. Can be read from any thread while the game
+ * continues: all values belong to the same moment of the game. Players who did not roll since the previous snapshot
+ * share their data with it, so publishing a snapshot copies only the player who rolled.
+ */
+public final class GameSnapshot {
+
+	private final PlayerSnapshot[] players;
+	private final int nextPlayer;
+	private final int currentFrame;
+	private final boolean isGameActive;
+
+	private GameSnapshot(PlayerSnapshot[] players, int nextPlayer, int currentFrame, boolean isGameActive) {
+		this.players = players;
+		this.nextPlayer = nextPlayer;
+		this.currentFrame = currentFrame;
+		this.isGameActive = isGameActive;
+	}
+
+	static GameSnapshot of(List<Player> players, int nextPlayer, int currentFrame, boolean isGameActive) {
+		PlayerSnapshot[] snapshots = new PlayerSnapshot[players.size()];
+		for (int i = 0; i < snapshots.length; i++) {
+			snapshots[i] = new PlayerSnapshot(players.get(i));
+		}
+		return new GameSnapshot(snapshots, nextPlayer, currentFrame, isGameActive);
+	}
+
+	/**
+	 * Creates the next snapshot where only the given player has changed.
+	 */
+	GameSnapshot update(Player player, int nextPlayer, int currentFrame, boolean isGameActive) {
+		PlayerSnapshot[] snapshots = players.clone();
+		snapshots[player.getIndex()] = new PlayerSnapshot(player);
+		return new GameSnapshot(snapshots, nextPlayer, currentFrame, isGameActive);
+	}
+
+	/**
+	 * Returns the count of players in the game.
+	 *
+	 * @return the count of players.
+	 */
+	public int getPlayerCount() {
+		return players.length;
+	}
+
+	/**
+	 * Returns the name of the player with given index.
+	 *
+	 * @param playerIndex The index of the player.
+	 * @return The name of the player.
+	 */
+	public String getPlayerName(int playerIndex) {
+		return players[playerIndex].name;
+	}
+
+	/**
+	 * Returns the score of the player with given index.
+	 *
+	 * @param playerIndex The index of the player.
+	 * @return The score of the player at the moment of the snapshot.
+	 */
+	public int getPlayerScore(int playerIndex) {
+		return players[playerIndex].score;
+	}
+
+	/**
+	 * Returns the symbols to be displayed for the frame, see {@link Frame#getDisplaySlots()}.
+	 *
+	 * @param playerIndex The index of the player.
+	 * @param frameIndex The zero-bound index of the frame.
+	 * @return The immutable list of symbols to be displayed in the results table.
+	 */
+	public List<String> getDisplaySlots(int playerIndex, int frameIndex) {
+		return players[playerIndex].displaySlots.get(frameIndex);
+	}
+
+	/**
+	 * Returns the individual score of the frame, see {@link Frame#getScore()}.
+	 *
+	 * @param playerIndex The index of the player.
+	 * @param frameIndex The zero-bound index of the frame.
+	 * @return The score of the frame.
+	 */
+	public int getFrameScore(int playerIndex, int frameIndex) {
+		return players[playerIndex].frameScores[frameIndex];
+	}
+
+	/**
+	 * Returns the score of the player for the moment of the frame, see {@link Frame#getAccumulatedScore()}.
+	 *
+	 * @param playerIndex The index of the player.
+	 * @param frameIndex The zero-bound index of the frame.
+	 * @return The total score of the player for the given frame.
+	 */
+	public int getAccumulatedScore(int playerIndex, int frameIndex) {
+		return players[playerIndex].accumulatedScores[frameIndex];
+	}
+
+	/**
+	 * Returns the index of the player who will roll the next bowl.
+	 *
+	 * @return The zero-bound index of the next player.
+	 */
+	public int getNextPlayer() {
+		return nextPlayer;
+	}
+
+	/**
+	 * Returns the index of the frame into which the result of the next roll will be registered.
+	 *
+	 * @return The zero-bound index of the current frame.
+	 */
+	public int getCurrentFrame() {
+		return currentFrame;
+	}
+
+	/**
+	 * Shows if the game was still going at the moment of the snapshot.
+	 *
+	 * @return {@literal true} if the game is going; {@literal false} if the game is over.
+	 */
+	public boolean isGameActive() {
+		return isGameActive;
+	}
+
+	private static final class PlayerSnapshot {
+
+		private final String name;
+		private final int score;
+		private final int[] frameScores;
+		private final int[] accumulatedScores;
+		private final List<List<String>> displaySlots;
+
+		PlayerSnapshot(Player player) {
+			Frame[] frames = player.getResultsTable();
+
+			name = player.getName();
+			score = player.getCurrentScore();
+			frameScores = new int[frames.length];
+			accumulatedScores = new int[frames.length];
+			displaySlots = new ArrayList<>(frames.length);
+
+			for (int i = 0; i < frames.length; i++) {
+				frameScores[i] = frames[i].getScore();
+				accumulatedScores[i] = frames[i].getAccumulatedScore();
+				displaySlots.add(frames[i].getDisplaySlots());
+			}
+		}
+	}
+}
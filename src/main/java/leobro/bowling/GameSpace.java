@@ -0,0 +1,168 @@
+package leobro.bowling;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Enumerates all legal roll series of one player's game. Instead of replaying the series one by one, it counts them
+ * per state of the {@link ScoringTable}: for every state it keeps how many series lead from it to the end of the game,
+ * grouped by the score they add. A state only leads to states of later rolls, so the states are processed roll by
+ * roll from the end of the game, and all the states of the same roll are computed in parallel.
+ * <p>
+ * The statistics assume that every legal continuation of a game is equally likely.
+ */
+public final class GameSpace {
+
+	/**
+	 * The maximum score of a game.
+	 */
+	public static final int MAX_SCORE = 300;
+
+	private static final int ROLL_LAYERS = ScoringTable.FRAMES * 3;
+
+	private final long[][] completions = new long[ScoringTable.STATE_COUNT + 1][];
+
+	private GameSpace() {
+		completions[ScoringTable.FINAL] = new long[MAX_SCORE + 1];
+		completions[ScoringTable.FINAL][0] = 1;
+
+		int layerSize = ScoringTable.STATE_COUNT / ROLL_LAYERS;
+		for (int layer = ROLL_LAYERS - 1; layer >= 0; layer--) {
+			int first = layer * layerSize;
+			IntStream.range(first, first + layerSize).parallel().forEach(this::countCompletions);
+		}
+	}
+
+	/**
+	 * Enumerates the game space using the common fork-join pool.
+	 *
+	 * @return The enumerated game space.
+	 */
+	public static GameSpace enumerate() {
+		return new GameSpace();
+	}
+
+	private void countCompletions(int state) {
+		long[] counts = new long[MAX_SCORE + 1];
+
+		for (int pins = 0; pins <= ScoringTable.PINS; pins++) {
+			int transition = ScoringTable.transition(state, pins);
+			if (transition == ScoringTable.INVALID) {
+				continue;
+			}
+
+			long[] next = completions[ScoringTable.nextState(transition)];
+			int delta = ScoringTable.scoreDelta(transition);
+			for (int score = 0; score + delta <= MAX_SCORE; score++) {
+				counts[score + delta] += next[score];
+			}
+		}
+		completions[state] = counts;
+	}
+
+	/**
+	 * Returns the count of all different games of one player.
+	 *
+	 * @return The count of legal roll series from the start to the end of the game.
+	 */
+	public long countGames() {
+		return Arrays.stream(completions[ScoringTable.START]).sum();
+	}
+
+	/**
+	 * Returns the distribution of final scores over all games of one player.
+	 *
+	 * @return The array where the element with index {@code score} is the count of games ending with that score.
+	 */
+	public long[] scoreDistribution() {
+		return completions[ScoringTable.START].clone();
+	}
+
+	/**
+	 * Returns the distribution of final scores over all continuations of the given partial game.
+	 *
+	 * @param frames The results table of the player, see {@link Game#getPlayerResultsTable(int)}.
+	 * @return The array where the element with index {@code score} is the count of continuations ending with that
+	 * score.
+	 * @throws IllegalArgumentException if the frames are not of a {@link RuleSet#TEN_PIN} game, or do not contain
+	 * a legal game.
+	 */
+	public long[] scoreDistribution(Frame[] frames) {
+		if (!isTenPinLayout(frames)) {
+			throw new IllegalArgumentException("Frames are not of a ten-pin game");
+		}
+
+		int state = ScoringTable.START;
+		int score = 0;
+
+		for (Frame frame : frames) {
+			for (int roll = 0; roll < frame.getRollCount(); roll++) {
+				int transition = ScoringTable.transition(state, frame.getPins(roll));
+				if (transition == ScoringTable.INVALID) {
+					throw new IllegalArgumentException("Frames do not contain a legal game");
+				}
+				state = ScoringTable.nextState(transition);
+				score += ScoringTable.scoreDelta(transition);
+			}
+		}
+
+		long[] distribution = new long[MAX_SCORE + 1];
+		System.arraycopy(completions[state], 0, distribution, score, MAX_SCORE + 1 - score);
+		return distribution;
+	}
+
+	/**
+	 * The scoring table only knows the ten-pin rules, so the frames of other rules, whose rolls could be read as
+	 * a different ten-pin game, must not reach it.
+	 */
+	private static boolean isTenPinLayout(Frame[] frames) {
+		if (frames.length != ScoringTable.FRAMES || !(frames[frames.length - 1] instanceof TenthFrame)) {
+			return false;
+		}
+		for (Frame frame : frames) {
+			if (frame instanceof VariantFrame) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the probability that the partial game ends with at least the given score.
+	 *
+	 * @param frames The results table of the player.
+	 * @param target The score to reach.
+	 * @return The share of continuations reaching the target score.
+	 */
+	public double probabilityOfReaching(Frame[] frames, int target) {
+		long[] distribution = scoreDistribution(frames);
+		long reaching = 0;
+		long total = 0;
+
+		for (int score = 0; score <= MAX_SCORE; score++) {
+			total += distribution[score];
+			if (score >= target) {
+				reaching += distribution[score];
+			}
+		}
+		return (double) reaching / total;
+	}
+
+	/**
+	 * Returns the expected final score of the partial game.
+	 *
+	 * @param frames The results table of the player.
+	 * @return The average final score over all continuations.
+	 */
+	public double expectedFinalScore(Frame[] frames) {
+		long[] distribution = scoreDistribution(frames);
+		double sum = 0;
+		double total = 0;
+
+		for (int score = 0; score <= MAX_SCORE; score++) {
+			sum += (double) score * distribution[score];
+			total += distribution[score];
+		}
+		return sum / total;
+	}
+}
@@ -0,0 +1,275 @@
+package leobro.bowling;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Live ranking of the players of one or many games. The tracked games report every change of a player's score, and
+ * the leaderboard moves the player to the bucket of the new score. A score is never above {@value GameSpace#MAX_SCORE},
+ * so the players are kept in one bucket per score, and a Fenwick tree over the bucket sizes answers the rank of
+ * a player in logarithmic time of the score range, independently of the count of players.
+ * <p>
+ * Players with equal scores share the rank. The methods are synchronized, so the games may be played in different
+ * threads. A game may be tracked from any thread, but its scores are read when it is tracked, so a roll made in another
+ * thread at that moment is reflected by the leaderboard only with the next score change of the player. Track a game
+ * before its rolls start, or from the thread rolling it, to follow every score.
+ */
+public class Leaderboard {
+
+	private static final int SCORES = GameSpace.MAX_SCORE + 1;
+
+	private final List<Set<Entry>> buckets = new ArrayList<>(SCORES);
+	private final int[] tree = new int[SCORES + 1];
+	private final Map<Game, Entry[]> entries = new IdentityHashMap<>();
+	private final GameListener listener = new GameListener() {
+		@Override
+		public void scoreUpdated(Game game, int playerIndex, int score) {
+			scoreChanged(game, playerIndex, score);
+		}
+
+		@Override
+		public void gameReset(Game game) {
+			restart(game);
+		}
+
+		@Override
+		public void gameReleased(Game game) {
+			untrack(game);
+		}
+	};
+	private int size;
+
+	public Leaderboard() {
+		for (int i = 0; i < SCORES; i++) {
+			buckets.add(new LinkedHashSet<>());
+		}
+	}
+
+	/**
+	 * Adds all the players of the game to the leaderboard and follows their scores.
+	 *
+	 * @param game The game to follow.
+	 */
+	public synchronized void track(Game game) {
+		if (entries.containsKey(game)) {
+			return;
+		}
+
+		entries.put(game, addPlayers(game));
+		game.addListener(listener);
+	}
+
+	private Entry[] addPlayers(Game game) {
+		Entry[] players = new Entry[game.getPlayerCount()];
+		for (int i = 0; i < players.length; i++) {
+			players[i] = new Entry(game, i, game.getPlayer(i).getName(), game.getPlayerScore(i));
+			add(players[i]);
+		}
+		return players;
+	}
+
+	/**
+	 * Replaces the players of the reset game, which may have other players than before.
+	 */
+	private synchronized void restart(Game game) {
+		Entry[] players = entries.get(game);
+		if (players != null) {
+			for (Entry entry : players) {
+				remove(entry);
+			}
+			entries.put(game, addPlayers(game));
+		}
+	}
+
+	/**
+	 * Removes the players of the game from the leaderboard.
+	 *
+	 * @param game The game to forget.
+	 */
+	public synchronized void untrack(Game game) {
+		Entry[] players = entries.remove(game);
+		if (players != null) {
+			game.removeListener(listener);
+			for (Entry entry : players) {
+				remove(entry);
+			}
+		}
+	}
+
+	private synchronized void scoreChanged(Game game, int playerIndex, int score) {
+		Entry[] players = entries.get(game);
+		if (players != null) {
+			Entry entry = players[playerIndex];
+			remove(entry);
+			entry.score = score;
+			add(entry);
+		}
+	}
+
+	/**
+	 * Returns the count of players on the leaderboard.
+	 *
+	 * @return The count of players of all tracked games.
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the rank of the player: one plus the count of players having a higher score.
+	 *
+	 * @param game The tracked game of the player.
+	 * @param playerIndex The index of the player in the game.
+	 * @return The one-bound rank of the player.
+	 * @throws IllegalArgumentException if the game is not tracked.
+	 */
+	public synchronized int getRank(Game game, int playerIndex) {
+		Entry[] players = entries.get(game);
+		if (players == null) {
+			throw new IllegalArgumentException("The game is not tracked");
+		}
+		return 1 + size - countUpTo(players[playerIndex].score);
+	}
+
+	/**
+	 * Returns the players with the highest scores. Players having the same score as the last returned one are not
+	 * included if they exceed the count.
+	 *
+	 * @param count The maximum count of players to return.
+	 * @return The standings of the best players, the best first.
+	 */
+	public synchronized List<Standing> getTop(int count) {
+		List<Standing> top = new ArrayList<>(Math.min(count, size));
+		int higher = 0;
+
+		for (int score = SCORES - 1; score >= 0 && top.size() < count; score--) {
+			Set<Entry> bucket = buckets.get(score);
+			if (bucket.isEmpty()) {
+				continue;
+			}
+			for (Entry entry : bucket) {
+				if (top.size() == count) {
+					break;
+				}
+				top.add(entry.toStanding(higher + 1));
+			}
+			higher += bucket.size();
+		}
+		return top;
+	}
+
+	/**
+	 * Returns all the players sharing the highest score.
+	 *
+	 * @return The standings of the leaders; empty if there are no players.
+	 */
+	public synchronized List<Standing> getLeaders() {
+		List<Standing> leaders = new ArrayList<>();
+
+		for (int score = SCORES - 1; score >= 0 && leaders.isEmpty(); score--) {
+			Set<Entry> bucket = buckets.get(score);
+			if (bucket.isEmpty()) {
+				continue;
+			}
+			for (Entry entry : bucket) {
+				leaders.add(entry.toStanding(1));
+			}
+		}
+		return leaders;
+	}
+
+	private void add(Entry entry) {
+		buckets.get(entry.score).add(entry);
+		updateTree(entry.score, 1);
+		size++;
+	}
+
+	private void remove(Entry entry) {
+		buckets.get(entry.score).remove(entry);
+		updateTree(entry.score, -1);
+		size--;
+	}
+
+	private void updateTree(int score, int delta) {
+		for (int i = score + 1; i < tree.length; i += i & -i) {
+			tree[i] += delta;
+		}
+	}
+
+	/**
+	 * Count of players with the score less or equal to the given one.
+	 */
+	private int countUpTo(int score) {
+		int count = 0;
+		for (int i = score + 1; i > 0; i -= i & -i) {
+			count += tree[i];
+		}
+		return count;
+	}
+
+	private static final class Entry {
+
+		private final Game game;
+		private final int playerIndex;
+		private final String name;
+		private int score;
+
+		Entry(Game game, int playerIndex, String name, int score) {
+			this.game = game;
+			this.playerIndex = playerIndex;
+			this.name = name;
+			this.score = score;
+		}
+
+		Standing toStanding(int rank) {
+			return new Standing(game, playerIndex, name, score, rank);
+		}
+	}
+
+	/**
+	 * Position of a player on the leaderboard at the moment of the query.
+	 */
+	public static final class Standing {
+
+		private final Game game;
+		private final int playerIndex;
+		private final String playerName;
+		private final int score;
+		private final int rank;
+
+		Standing(Game game, int playerIndex, String playerName, int score, int rank) {
+			this.game = game;
+			this.playerIndex = playerIndex;
+			this.playerName = playerName;
+			this.score = score;
+			this.rank = rank;
+		}
+
+		public Game getGame() {
+			return game;
+		}
+
+		public int getPlayerIndex() {
+			return playerIndex;
+		}
+
+		public String getPlayerName() {
+			return playerName;
+		}
+
+		public int getScore() {
+			return score;
+		}
+
+		/**
+		 * @return The one-bound rank; players with equal scores share the rank.
+		 */
+		public int getRank() {
+			return rank;
+		}
+	}
+}
@@ -0,0 +1,132 @@
+package leobro.bowling;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@link GameMetrics} keeping the counters in {@link LongAdder}s, so that many threads rolling at once do not
+ * contend on them. The roll latency is kept in a histogram of power-of-two buckets of nanoseconds, so a percentile is
+ * known within a factor of two, which is enough to tell a regression.
+ */
+public class LongAdderMetrics implements GameMetrics {
+
+	private static final int BUCKET_COUNT = 64;
+
+	private final long startNanos = System.nanoTime();
+	private final LongAdder gamesStarted = new LongAdder();
+	private final LongAdder gamesFinished = new LongAdder();
+	private final LongAdder rolls = new LongAdder();
+	private final LongAdder rejectedRolls = new LongAdder();
+	private final LongAdder scoreboardRenders = new LongAdder();
+	private final LongAdder[] latencyBuckets = new LongAdder[BUCKET_COUNT];
+
+	public LongAdderMetrics() {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			latencyBuckets[i] = new LongAdder();
+		}
+	}
+
+	@Override
+	public void gameStarted() {
+		gamesStarted.increment();
+	}
+
+	@Override
+	public void gameFinished() {
+		gamesFinished.increment();
+	}
+
+	@Override
+	public void rollsRegistered(int count, long nanos) {
+		rolls.add(count);
+		long perRoll = nanos / count;
+		latencyBuckets[BUCKET_COUNT - Long.numberOfLeadingZeros(Math.max(perRoll, 0))].add(count);
+	}
+
+	@Override
+	public void rollRejected() {
+		rejectedRolls.increment();
+	}
+
+	@Override
+	public void scoreboardRendered() {
+		scoreboardRenders.increment();
+	}
+
+	/**
+	 * Returns the count of games started since these metrics were installed, including the games started again by
+	 * a reset.
+	 */
+	public long getGamesStarted() {
+		return gamesStarted.sum();
+	}
+
+	/**
+	 * Returns the count of games started and not over yet. Games reset or released to a {@link GamePool} before
+	 * the end are no longer active, but games simply dropped by their users are counted as active.
+	 */
+	public long getActiveGames() {
+		return gamesStarted.sum() - gamesFinished.sum();
+	}
+
+	/**
+	 * Returns the count of rolls registered.
+	 */
+	public long getRollCount() {
+		return rolls.sum();
+	}
+
+	/**
+	 * Returns the average count of rolls registered per second since these metrics were created.
+	 */
+	public double getRollsPerSecond() {
+		long elapsed = System.nanoTime() - startNanos;
+		return elapsed > 0 ? rolls.sum() * 1e9 / elapsed : 0;
+	}
+
+	/**
+	 * Returns the count of rolls rejected as breaking the rules.
+	 */
+	public long getRejectedRollCount() {
+		return rejectedRolls.sum();
+	}
+
+	/**
+	 * Returns the count of requests for the results tables of players.
+	 */
+	public long getScoreboardRenderCount() {
+		return scoreboardRenders.sum();
+	}
+
+	/**
+	 * Returns the upper bound of the roll latency below which the given share of rolls completed. Rolls of a batch
+	 * count as taking the average time of the batch.
+	 *
+	 * @param percentile The share of rolls from 0 to 100, e.g. 99 for the 99th percentile.
+	 * @return The latency in nanoseconds, within a factor of two, or zero if no rolls were registered.
+	 */
+	public long getRollLatencyPercentile(double percentile) {
+		if (percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException("Percentile must be between 0 and 100");
+		}
+
+		long[] counts = new long[BUCKET_COUNT];
+		long total = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			counts[i] = latencyBuckets[i].sum();
+			total += counts[i];
+		}
+		if (total == 0) {
+			return 0;
+		}
+
+		long rank = (long) Math.ceil(total * percentile / 100);
+		long seen = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			seen += counts[i];
+			if (seen >= Math.max(rank, 1)) {
+				return (1L << i) - 1;
+			}
+		}
+		return Long.MAX_VALUE;
+	}
+}
@@ -0,0 +1,427 @@
+package leobro.bowling;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Keeps many ten-pin games outside of the Java heap, e.g. the hundreds of thousands of games in progress during
+ * a national event. Every game is a record of fixed size in one direct or memory-mapped buffer instead of a graph of
+ * {@link Player}, {@link Frame} and formatter objects, so the garbage collector has nothing to trace however many
+ * games are kept.
+ * <p>
+ * A record holds the count of players, the next player and whether the game is going, then for every player
+ * the name in UTF-8, the scoring state, the total score, the scores and the accumulated scores of the frames and
+ * the pins of every roll. The scoring state of {@link ScoringTable} includes the pending strike and spare bonuses,
+ * and the rolls are scored by the same table as in {@link TournamentStore}. The frames for display are restored
+ * on demand, either into new frames or into a table of frames reused as a flyweight view.
+ * <p>
+ * A game is identified by the index of its record. The store is not thread-safe.
+ */
+public class OffHeapGameStore {
+
+	/**
+	 * The maximum length of a player name in UTF-8 bytes.
+	 */
+	public static final int MAX_NAME_BYTES = 31;
+
+	private static final int FRAMES = ScoringTable.FRAMES;
+	private static final int ROLL_SLOTS = FRAMES * 2 + 1;
+
+	private static final int PLAYER_COUNT = 0;
+	private static final int NEXT_PLAYER = 1;
+	private static final int FLAGS = 2;
+	private static final int HEADER_SIZE = 4;
+
+	private static final int IN_USE = 1;
+	private static final int ACTIVE = 2;
+
+	private static final int NAME = 0;
+	private static final int STATE = NAME + 1 + MAX_NAME_BYTES;
+	private static final int TOTAL = STATE + 4;
+	private static final int FRAME_SCORES = TOTAL + 2;
+	private static final int ACCUMULATED_SCORES = FRAME_SCORES + FRAMES * 2;
+	private static final int PINS = ACCUMULATED_SCORES + FRAMES * 2;
+	private static final int PLAYER_SIZE = (PINS + ROLL_SLOTS + 3) & ~3;
+
+	private final ByteBuffer buffer;
+	private final int maxPlayers;
+	private final int recordSize;
+	private final int capacity;
+	private final int[] freeRecords;
+	private int freeCount;
+
+	/**
+	 * Creates the store in a new direct buffer.
+	 *
+	 * @param capacity The count of games the store can keep at once.
+	 * @param maxPlayers The maximum count of players of one game.
+	 * @throws IllegalArgumentException if the store would be larger than 2 GB.
+	 */
+	public OffHeapGameStore(int capacity, int maxPlayers) {
+		this(ByteBuffer.allocateDirect(checkedSize(capacity, maxPlayers)), maxPlayers);
+	}
+
+	/**
+	 * Creates the store in the given buffer, e.g. a memory-mapped region of a file. The store takes as many records
+	 * as fit into the buffer, and treats all of them as free.
+	 *
+	 * @param buffer The buffer to keep the games in, of at least {@link #recordSize(int)} bytes.
+	 * @param maxPlayers The maximum count of players of one game.
+	 */
+	public OffHeapGameStore(ByteBuffer buffer, int maxPlayers) {
+		this.maxPlayers = maxPlayers;
+		this.buffer = buffer.order(ByteOrder.nativeOrder());
+		recordSize = recordSize(maxPlayers);
+		capacity = buffer.capacity() / recordSize;
+
+		freeRecords = new int[capacity];
+		for (int i = 0; i < capacity; i++) {
+			freeRecords[i] = capacity - 1 - i;
+			buffer.put(i * recordSize + FLAGS, (byte) 0);
+		}
+		freeCount = capacity;
+	}
+
+	/**
+	 * Returns the size of the record of one game.
+	 *
+	 * @param maxPlayers The maximum count of players of one game.
+	 * @return The size of the record in bytes.
+	 */
+	public static int recordSize(int maxPlayers) {
+		if (maxPlayers < 1 || maxPlayers > Byte.MAX_VALUE) {
+			throw new IllegalArgumentException("Maximum count of players must be from 1 to " + Byte.MAX_VALUE);
+		}
+		return HEADER_SIZE + maxPlayers * PLAYER_SIZE;
+	}
+
+	private static int checkedSize(int capacity, int maxPlayers) {
+		long size = (long) capacity * recordSize(maxPlayers);
+		if (capacity < 0 || size > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Store does not fit into one buffer");
+		}
+		return (int) size;
+	}
+
+	/**
+	 * Returns the count of games the store can keep at once.
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Returns the count of games started and not released.
+	 */
+	public int getGameCount() {
+		return capacity - freeCount;
+	}
+
+	/**
+	 * Returns the count of bytes taken by the records outside of the heap.
+	 */
+	public long getFootprint() {
+		return (long) capacity * recordSize;
+	}
+
+	/**
+	 * Starts a new game of the given players in a free record, like {@link Game#Game(List)}.
+	 *
+	 * @param playerNames The names of players as they will be shown in the game table.
+	 * @return The identifier of the game.
+	 * @throws IllegalArgumentException if there are too many players or a name is too long.
+	 * @throws IllegalStateException if all the records are taken.
+	 */
+	public int startGame(List<String> playerNames) {
+		int playerCount = playerNames.size();
+		if (playerCount < 1 || playerCount > maxPlayers) {
+			throw new IllegalArgumentException("Count of players must be from 1 to " + maxPlayers);
+		}
+		if (freeCount == 0) {
+			throw new IllegalStateException("No free record for the game");
+		}
+
+		byte[][] names = new byte[playerCount][];
+		for (int i = 0; i < playerCount; i++) {
+			names[i] = playerNames.get(i).getBytes(StandardCharsets.UTF_8);
+			if (names[i].length > MAX_NAME_BYTES) {
+				throw new IllegalArgumentException("Player name is too long: " + playerNames.get(i));
+			}
+		}
+
+		int game = freeRecords[--freeCount];
+		int record = game * recordSize;
+		buffer.put(record + PLAYER_COUNT, (byte) playerCount);
+		buffer.put(record + NEXT_PLAYER, (byte) 0);
+		buffer.put(record + FLAGS, (byte) (IN_USE | ACTIVE));
+
+		for (int i = 0; i < playerCount; i++) {
+			int player = record + HEADER_SIZE + i * PLAYER_SIZE;
+			buffer.put(player + NAME, (byte) names[i].length);
+			for (int b = 0; b < names[i].length; b++) {
+				buffer.put(player + NAME + 1 + b, names[i][b]);
+			}
+			buffer.putInt(player + STATE, ScoringTable.START);
+			buffer.putShort(player + TOTAL, (short) 0);
+			for (int frame = 0; frame < FRAMES; frame++) {
+				buffer.putShort(player + FRAME_SCORES + frame * 2, (short) 0);
+				buffer.putShort(player + ACCUMULATED_SCORES + frame * 2, (short) 0);
+			}
+			for (int roll = 0; roll < ROLL_SLOTS; roll++) {
+				buffer.put(player + PINS + roll, (byte) Frame.NO_PINS);
+			}
+		}
+		return game;
+	}
+
+	/**
+	 * Frees the record of the game for a new one.
+	 *
+	 * @param game The identifier of the game.
+	 */
+	public void release(int game) {
+		int record = record(game);
+		buffer.put(record + FLAGS, (byte) 0);
+		freeRecords[freeCount++] = game;
+	}
+
+	/**
+	 * Registers the roll of the next player of the game, like {@link Game#roll(int)}.
+	 *
+	 * @param game The identifier of the game.
+	 * @param pins The count of pins hit by this throw.
+	 * @throws RollRejectedException if the roll breaks the rules. The game stays in the state before that roll.
+	 */
+	public void roll(int game, int pins) {
+		RollResult result = tryRoll(game, pins);
+		if (result != RollResult.ACCEPTED && result != RollResult.GAME_OVER) {
+			throw new RollRejectedException(result);
+		}
+	}
+
+	/**
+	 * Registers the roll of the next player of the game, like {@link Game#tryRoll(int)}.
+	 *
+	 * @param game The identifier of the game.
+	 * @param pins The count of pins hit by this throw.
+	 * @return {@link RollResult#ACCEPTED} if the roll is registered, or the reason why it is rejected.
+	 */
+	public RollResult tryRoll(int game, int pins) {
+		int record = record(game);
+		if ((buffer.get(record + FLAGS) & ACTIVE) == 0) {
+			return RollResult.GAME_OVER;
+		}
+
+		int playerIndex = buffer.get(record + NEXT_PLAYER);
+		int player = record + HEADER_SIZE + playerIndex * PLAYER_SIZE;
+		int state = buffer.getInt(player + STATE);
+		int transition = ScoringTable.transition(state, pins);
+		if (transition == ScoringTable.INVALID) {
+			return pins < 0 ? RollResult.NEGATIVE_PINS
+					: pins > Frame.PINS_IN_FRAME ? RollResult.TOO_MANY_PINS : RollResult.TOO_MANY_PINS_IN_FRAME;
+		}
+
+		int frame = ScoringTable.frameOf(state);
+		buffer.put(player + PINS + frame * 2 + ScoringTable.rollOf(state), (byte) pins);
+		addToFrameScore(player, frame, pins);
+
+		int firstChangedFrame = frame - ScoringTable.pendingBonuses(state);
+		for (int i = firstChangedFrame; i < frame; i++) {
+			addToFrameScore(player, i, pins);
+		}
+
+		int accumulatedScore = firstChangedFrame == 0
+				? 0 : buffer.getShort(player + ACCUMULATED_SCORES + (firstChangedFrame - 1) * 2);
+		for (int i = firstChangedFrame; i <= frame; i++) {
+			accumulatedScore += buffer.getShort(player + FRAME_SCORES + i * 2);
+			buffer.putShort(player + ACCUMULATED_SCORES + i * 2, (short) accumulatedScore);
+		}
+
+		buffer.putShort(player + TOTAL, (short) (buffer.getShort(player + TOTAL) + ScoringTable.scoreDelta(transition)));
+		int nextState = ScoringTable.nextState(transition);
+		buffer.putInt(player + STATE, nextState);
+
+		if (nextState == ScoringTable.FINAL || ScoringTable.frameOf(nextState) != frame) {
+			passToNextPlayer(record, playerIndex);
+		}
+		return RollResult.ACCEPTED;
+	}
+
+	private void addToFrameScore(int player, int frame, int pins) {
+		int offset = player + FRAME_SCORES + frame * 2;
+		buffer.putShort(offset, (short) (buffer.getShort(offset) + pins));
+	}
+
+	/**
+	 * The players complete their games in their order, so the game is over when the player after the one who has
+	 * just completed a frame has completed the whole game. The last player stays the next one after the end of
+	 * the game, as in {@link Game}.
+	 */
+	private void passToNextPlayer(int record, int playerIndex) {
+		int nextPlayer = playerIndex + 1 == buffer.get(record + PLAYER_COUNT) ? 0 : playerIndex + 1;
+
+		if (buffer.getInt(record + HEADER_SIZE + nextPlayer * PLAYER_SIZE + STATE) == ScoringTable.FINAL) {
+			buffer.put(record + FLAGS, (byte) IN_USE);
+		} else {
+			buffer.put(record + NEXT_PLAYER, (byte) nextPlayer);
+		}
+	}
+
+	/**
+	 * Returns the count of players of the game.
+	 *
+	 * @param game The identifier of the game.
+	 * @return The count of players.
+	 */
+	public int getPlayerCount(int game) {
+		return buffer.get(record(game) + PLAYER_COUNT);
+	}
+
+	/**
+	 * Returns the name of the player. The name is decoded from the record on every call.
+	 *
+	 * @param game The identifier of the game.
+	 * @param playerIndex The index of the player.
+	 * @return The name of the player.
+	 */
+	public String getPlayerName(int game, int playerIndex) {
+		int player = player(game, playerIndex);
+		byte[] name = new byte[buffer.get(player + NAME)];
+		for (int i = 0; i < name.length; i++) {
+			name[i] = buffer.get(player + NAME + 1 + i);
+		}
+		return new String(name, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Returns the index of the player who will roll the next bowl.
+	 *
+	 * @param game The identifier of the game.
+	 * @return The zero-bound index of the next player.
+	 */
+	public int getNextPlayer(int game) {
+		return buffer.get(record(game) + NEXT_PLAYER);
+	}
+
+	/**
+	 * Returns the index of the frame into which the result of the next roll will be registered.
+	 *
+	 * @param game The identifier of the game.
+	 * @return The zero-bound index of the current frame; the last frame if the game is over.
+	 */
+	public int getCurrentFrame(int game) {
+		int state = buffer.getInt(player(game, getNextPlayer(game)) + STATE);
+		return state == ScoringTable.FINAL ? FRAMES - 1 : ScoringTable.frameOf(state);
+	}
+
+	/**
+	 * Returns the count of pins standing on the lane before the next roll, see {@link Game#getPinsStanding()}.
+	 *
+	 * @param game The identifier of the game.
+	 * @return The count of pins the next roll can hit.
+	 */
+	public int getPinsStanding(int game) {
+		return ScoringTable.pinsStanding(buffer.getInt(player(game, getNextPlayer(game)) + STATE));
+	}
+
+	/**
+	 * Shows if the game is still going.
+	 *
+	 * @param game The identifier of the game.
+	 * @return {@literal true} if the game is going; {@literal false} if the game is over.
+	 */
+	public boolean isGameActive(int game) {
+		return (buffer.get(record(game) + FLAGS) & ACTIVE) != 0;
+	}
+
+	/**
+	 * Returns the current score of the player.
+	 *
+	 * @param game The identifier of the game.
+	 * @param playerIndex The index of the player.
+	 * @return The total score including all known bonuses.
+	 */
+	public int getPlayerScore(int game, int playerIndex) {
+		return buffer.getShort(player(game, playerIndex) + TOTAL);
+	}
+
+	/**
+	 * Creates a table of empty frames to be filled by {@link #getResultsTable(int, int, Frame[])}.
+	 *
+	 * @return The frames of one player.
+	 */
+	public static Frame[] newResultsTable() {
+		Frame[] frames = new Frame[FRAMES];
+		for (int i = 0; i < FRAMES - 1; i++) {
+			frames[i] = new Frame();
+		}
+		frames[FRAMES - 1] = new TenthFrame();
+		return frames;
+	}
+
+	/**
+	 * Creates the frames of the player, the same as {@link Game#getPlayerResultsTable(int)} returns. The frames are
+	 * copies and do not change with further rolls.
+	 *
+	 * @param game The identifier of the game.
+	 * @param playerIndex The index of the player.
+	 * @return The results table of the player.
+	 */
+	public Frame[] getResultsTable(int game, int playerIndex) {
+		return getResultsTable(game, playerIndex, newResultsTable());
+	}
+
+	/**
+	 * Fills the given frames with the results of the player. The same frames can be filled for any player of any
+	 * game, so showing a game allocates nothing. The accumulated scores are stored up to the current frame only, so
+	 * the frames not played yet take the last of them.
+	 *
+	 * @param game The identifier of the game.
+	 * @param playerIndex The index of the player.
+	 * @param frames The table created by {@link #newResultsTable()}.
+	 * @return The given frames.
+	 */
+	public Frame[] getResultsTable(int game, int playerIndex, Frame[] frames) {
+		int player = player(game, playerIndex);
+		int accumulatedScore = 0;
+
+		for (int i = 0; i < FRAMES - 1; i++) {
+			accumulatedScore = accumulatedScore(player, i, accumulatedScore);
+			frames[i].restore(buffer.get(player + PINS + i * 2), buffer.get(player + PINS + i * 2 + 1),
+					buffer.getShort(player + FRAME_SCORES + i * 2), accumulatedScore);
+		}
+
+		int last = FRAMES - 1;
+		accumulatedScore = accumulatedScore(player, last, accumulatedScore);
+		((TenthFrame) frames[last]).restore(buffer.get(player + PINS + last * 2),
+				buffer.get(player + PINS + last * 2 + 1), buffer.get(player + PINS + last * 2 + 2),
+				buffer.getShort(player + FRAME_SCORES + last * 2), accumulatedScore);
+		return frames;
+	}
+
+	private int accumulatedScore(int player, int frame, int previousScore) {
+		return buffer.get(player + PINS + frame * 2) == Frame.NO_PINS
+				? previousScore : buffer.getShort(player + ACCUMULATED_SCORES + frame * 2);
+	}
+
+	private int record(int game) {
+		if (game < 0 || game >= capacity) {
+			throw new IndexOutOfBoundsException("No game " + game);
+		}
+		int record = game * recordSize;
+		if ((buffer.get(record + FLAGS) & IN_USE) == 0) {
+			throw new IllegalStateException("Game " + game + " is not started");
+		}
+		return record;
+	}
+
+	private int player(int game, int playerIndex) {
+		int record = record(game);
+		if (playerIndex < 0 || playerIndex >= buffer.get(record + PLAYER_COUNT)) {
+			throw new IndexOutOfBoundsException("No player " + playerIndex);
+		}
+		return record + HEADER_SIZE + playerIndex * PLAYER_SIZE;
+	}
+}
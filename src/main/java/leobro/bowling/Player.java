@@ -1,5 +1,7 @@
 package leobro.bowling;
 
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
 /**
  * Player in the bowling game. Index is their sequential index in the list of players, and the name is needed for display.
  * Knows the rules of the game (passes part of the rules evaluation to {@link Frame}), calculates the score and fills
@@ -7,25 +9,106 @@ package leobro.bowling;
  */
 class Player {
 
+    private static final AtomicIntegerFieldUpdater<Player> SHARED_FRAMES =
+            AtomicIntegerFieldUpdater.newUpdater(Player.class, "sharedFrames");
+
     private int index;
     private String name;
     private int currentScore;
     private Frame[] frames;
     private int currentFrameIndex;
+    private volatile int sharedFrames;
+    private int finalFrames;
+    private int playedFrames;
 
-    Player(int sequenceNumber, String name) {
+    Player(int sequenceNumber, String name, RuleSet rules) {
         index = sequenceNumber;
         this.name = name;
 		currentScore = 0;
-		initializeFrames();
+		initializeFrames(rules);
+    }
+
+    /**
+     * Creates the player with the same results. The frames which can not change any more, i.e. the completed frames
+     * not waiting for a bonus together with all the frames before them, are shared with this player instead of being
+     * copied; their accumulated scores are final, so nobody writes them. The only change of this player is the count
+     * of its shared frames, raised atomically, which tells {@link #reset()} to replace them.
+     */
+    Player copy() {
+        Player copy = new Player(index, name, new Frame[frames.length]);
+        copy.currentScore = currentScore;
+        copy.currentFrameIndex = currentFrameIndex;
+        copy.finalFrames = finalFrames;
+        copy.playedFrames = playedFrames;
+
+        System.arraycopy(frames, 0, copy.frames, 0, finalFrames);
+        for (int i = finalFrames; i < frames.length; i++) {
+            copy.frames[i] = frames[i].copy();
+            copy.frames[i].owner = copy;
+        }
+        copy.sharedFrames = finalFrames;
+
+        int shared;
+        do {
+            shared = sharedFrames;
+        } while (shared < finalFrames && !SHARED_FRAMES.compareAndSet(this, shared, finalFrames));
+        return copy;
+    }
+
+    /**
+     * Clears the results to start a new game under the given name.
+     */
+    void reset(String name) {
+        this.name = name;
+        reset();
     }
 
-    private void initializeFrames() {
-        frames = new Frame[10];
-        for (int i = 0; i < 9; i++) {
-            frames[i] = new Frame();
+    /**
+     * Clears the results to start a new game. The frames are reused, except for the ones shared with a copy of
+     * the player, which are replaced with own frames first.
+     */
+    void reset() {
+        for (int i = 0; i < sharedFrames; i++) {
+            frames[i] = frames[i].copy();
+            frames[i].owner = this;
+        }
+        for (Frame frame : frames) {
+            frame.reset();
+        }
+        sharedFrames = 0;
+        finalFrames = 0;
+        playedFrames = 0;
+        currentScore = 0;
+        currentFrameIndex = 0;
+    }
+
+    private Player(int index, String name, Frame[] frames) {
+        this.index = index;
+        this.name = name;
+        this.frames = frames;
+    }
+
+    /**
+     * The ten-pin frames have the rules built in, so that the most common game does not pay for reading the rules.
+     */
+    private void initializeFrames(RuleSet rules) {
+        frames = new Frame[rules.getFrames()];
+        int last = frames.length - 1;
+        if (rules == RuleSet.TEN_PIN) {
+            for (int i = 0; i < last; i++) {
+                frames[i] = new Frame();
+            }
+            frames[last] = new TenthFrame();
+        } else {
+            for (int i = 0; i < last; i++) {
+                frames[i] = new VariantFrame(rules, false);
+            }
+            frames[last] = new VariantFrame(rules, true);
+        }
+        for (int i = 0; i < frames.length; i++) {
+            frames[i].owner = this;
+            frames[i].index = i;
         }
-        frames[9] = new TenthFrame();
 
 		currentFrameIndex = 0;
     }
@@ -43,39 +126,84 @@ class Player {
     }
 
     /**
-     * All game rules are in this method and in the downstream methods.
+     * All game rules are in this method and in the downstream methods. Only the current frame and at most two
+     * preceding frames waiting for the strike or spare bonus are touched, so a roll costs the same regardless of
+     * how many frames have already been played. The accumulated scores are not updated, except for storing the final
+     * ones, see {@link #getAccumulatedScore(int)}.
      */
     void roll(int pins) {
         Frame frame = frames[currentFrameIndex];
         frame.registerRoll(pins);
+        currentScore += pins;
         fillPendingScore(pins);
-        calculateCurrentScore();
+        playedFrames = currentFrameIndex + 1;
         if (frame.isComplete()) {
             currentFrameIndex++;
         }
+        storeFinalAccumulatedScores();
+    }
+
+    RollResult checkRoll(int pins) {
+        return frames[currentFrameIndex].checkRoll(pins);
+    }
+
+    boolean acceptsRoll(int pins) {
+        return checkRoll(pins) == RollResult.ACCEPTED;
+    }
+
+    int getPinsStanding() {
+        return frames[currentFrameIndex].getPinsStanding();
+    }
+
+    boolean isRackFresh() {
+        return frames[currentFrameIndex].isRackFresh();
     }
 
     /**
-     * Adds score from one or two next rolls to the waiting spare or strike frame.
+     * Adds score from one or two next rolls to the waiting spare or strike frame. Only the two frames preceding the
+     * current one can still wait for a bonus.
      */
     private void fillPendingScore(int pins) {
-        for (int i = 0; i < currentFrameIndex; i++) {
+        for (int i = Math.max(0, currentFrameIndex - 2); i < currentFrameIndex; i++) {
             Frame frame = frames[i];
 
             if (frame.hasPendingRolls()) {
                 frame.incrementScore(pins);
                 frame.decrementPendingRolls();
+                currentScore += pins;
             }
         }
     }
 
-    private void calculateCurrentScore() {
-        currentScore = 0;
+    /**
+     * Stores the accumulated scores of the frames which have become final: the completed frames not waiting for
+     * a bonus, following the frames stored before. Every frame is stored once per game.
+     */
+    private void storeFinalAccumulatedScores() {
+        while (finalFrames < currentFrameIndex && !frames[finalFrames].hasPendingRolls()) {
+            int previous = finalFrames == 0 ? 0 : frames[finalFrames - 1].accumulatedScore;
+            frames[finalFrames].finishAccumulation(previous + frames[finalFrames].getScore());
+            finalFrames++;
+        }
+    }
 
-		for (Frame frame : frames) {
-			currentScore += frame.getScore();
-			frame.setAccumulatedScore(currentScore);
-		}
+    /**
+     * Computes the accumulated score of a frame which may still change from the last final one. At most the current
+     * frame and two frames waiting for a bonus are summed. The frames not played yet have the current score of
+     * the player. Nothing is stored, so reading the scores in another thread than the one registering the rolls may
+     * see an outdated score, but never corrupts the player.
+     */
+    int getAccumulatedScore(int frameIndex) {
+        if (frameIndex >= playedFrames) {
+            return currentScore;
+        }
+
+        int first = Math.min(finalFrames, frameIndex);
+        int accumulatedScore = first == 0 ? 0 : frames[first - 1].accumulatedScore;
+        for (int i = first; i <= frameIndex; i++) {
+            accumulatedScore += frames[i].getScore();
+        }
+        return accumulatedScore;
     }
 
     /**
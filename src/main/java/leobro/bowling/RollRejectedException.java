@@ -0,0 +1,54 @@
+package leobro.bowling;
+
+import java.security.InvalidParameterException;
+
+/**
+ * Thrown by {@link Game#roll(int)} when the roll breaks the rules. With {@link Game#setStacklessRejections(boolean)}
+ * the game throws instances without a stack trace.
+ */
+public class RollRejectedException extends InvalidParameterException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final RollResult result;
+
+	RollRejectedException(RollResult result) {
+		super(result.getMessage());
+		this.result = result;
+	}
+
+	/**
+	 * Creates an instance whose stack trace is never captured nor set. {@link InvalidParameterException} has no
+	 * constructor for an unwritable stack trace, so the instance overrides the writing methods instead. Suppression
+	 * can not be disabled that way, so the instances are not shared: a new one is thrown for every rejection, which
+	 * costs a small allocation but not the walk of the stack.
+	 */
+	static RollRejectedException stackless(RollResult result) {
+		return new Stackless(result);
+	}
+
+	/**
+	 * Returns the reason why the roll was rejected.
+	 */
+	public RollResult getResult() {
+		return result;
+	}
+
+	private static final class Stackless extends RollRejectedException {
+
+		private static final long serialVersionUID = 1L;
+
+		Stackless(RollResult result) {
+			super(result);
+		}
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+
+		@Override
+		public void setStackTrace(StackTraceElement[] stackTrace) {
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package leobro.bowling;
+
+/**
+ * The outcome of registering a roll with {@link Game#tryRoll(int)}. A rejected roll leaves the game in the state
+ * before that roll.
+ */
+public enum RollResult {
+
+	/**
+	 * The roll has been registered.
+	 */
+	ACCEPTED(null),
+
+	/**
+	 * The count of pins is negative.
+	 */
+	NEGATIVE_PINS("Negative pins are not accepted"),
+
+	/**
+	 * The count of pins is more than a full rack.
+	 */
+	TOO_MANY_PINS("Too many pins"),
+
+	/**
+	 * The count of pins is more than the pins left standing in the frame.
+	 */
+	TOO_MANY_PINS_IN_FRAME("Too many pins in the frame"),
+
+	/**
+	 * The game is over, so no more rolls are accepted.
+	 */
+	GAME_OVER("The game is over");
+
+	private final String message;
+
+	RollResult(String message) {
+		this.message = message;
+	}
+
+	/**
+	 * Returns the description of the reason to reject the roll.
+	 *
+	 * @return The message, or {@code null} for {@link #ACCEPTED}.
+	 */
+	public String getMessage() {
+		return message;
+	}
+}
@@ -0,0 +1,163 @@
+package leobro.bowling;
+
+/**
+ * The rules of a bowling variant: the count of pins in a rack, the count of frames in a game, the count of rolls in
+ * a frame, the count of rolls added to a strike or a spare as a bonus, and whether the last frame grants fill rolls
+ * for the bonus of a strike or a spare. A strike is hitting all the pins with the first roll of a frame, and a spare
+ * is hitting the rest of them with the second roll.
+ * <p>
+ * A game chooses its frames by the rules once, when it is created, so the rules cost nothing per roll.
+ * The {@link #TEN_PIN} rules use the original frames with the rules built in; the other rules use the frames reading
+ * the rules from this object. The limits of the values keep the score of a game within 300 and the results of a frame
+ * within three display slots, so that all the components showing the scores work for every variant.
+ * The {@link GameCodec}, the {@link ScoringTable} and the components built on it, the journal and the simulation
+ * support the ten-pin rules only.
+ */
+public final class RuleSet {
+
+	/**
+	 * The standard ten-pin bowling.
+	 */
+	public static final RuleSet TEN_PIN = new RuleSet(10, 10, 2, 2, 1, true);
+
+	/**
+	 * Nine-pin bowling with the ten-pin scoring.
+	 */
+	public static final RuleSet NINE_PIN = new RuleSet(9, 10, 2, 2, 1, true);
+
+	/**
+	 * Candlepin bowling: three rolls in a frame. Hitting all the pins with the third roll gives no bonus.
+	 */
+	public static final RuleSet CANDLEPIN = new RuleSet(10, 10, 3, 2, 1, true);
+
+	private final int pins;
+	private final int frames;
+	private final int rollsPerFrame;
+	private final int strikeBonusRolls;
+	private final int spareBonusRolls;
+	private final boolean hasFillRolls;
+
+	private RuleSet(int pins, int frames, int rollsPerFrame, int strikeBonusRolls, int spareBonusRolls,
+			boolean hasFillRolls) {
+		this.pins = pins;
+		this.frames = frames;
+		this.rollsPerFrame = rollsPerFrame;
+		this.strikeBonusRolls = strikeBonusRolls;
+		this.spareBonusRolls = spareBonusRolls;
+		this.hasFillRolls = hasFillRolls;
+	}
+
+	/**
+	 * Returns the rules.
+	 *
+	 * @param pins The count of pins in a rack, from 1 to 10.
+	 * @param frames The count of frames in a game, from 1 to 10.
+	 * @param rollsPerFrame The count of rolls in a frame without a strike or a spare, 2 or 3.
+	 * @param strikeBonusRolls The count of following rolls added to the score of a strike, from 0 to 2.
+	 * @param spareBonusRolls The count of following rolls added to the score of a spare, 0 or 1.
+	 * @param hasFillRolls {@code true} if a strike or a spare in the last frame grants the bonus rolls in that
+	 *                     frame; {@code false} if the last frame is scored without the bonus.
+	 * @return The rules. The ten-pin values return {@link #TEN_PIN}.
+	 * @throws IllegalArgumentException if a value is out of its limits.
+	 */
+	public static RuleSet of(int pins, int frames, int rollsPerFrame, int strikeBonusRolls, int spareBonusRolls,
+			boolean hasFillRolls) {
+		checkRange(pins, 1, 10, "Pins");
+		checkRange(frames, 1, 10, "Frames");
+		checkRange(rollsPerFrame, 2, 3, "Rolls per frame");
+		checkRange(strikeBonusRolls, 0, 2, "Strike bonus rolls");
+		checkRange(spareBonusRolls, 0, 1, "Spare bonus rolls");
+
+		RuleSet rules = new RuleSet(pins, frames, rollsPerFrame, strikeBonusRolls, spareBonusRolls, hasFillRolls);
+		return rules.equals(TEN_PIN) ? TEN_PIN : rules;
+	}
+
+	/**
+	 * Returns the ten-pin rules with fewer frames, e.g. for a short format league.
+	 *
+	 * @param frames The count of frames in a game, from 1 to 10.
+	 * @return The rules.
+	 */
+	public static RuleSet shortFormat(int frames) {
+		return of(10, frames, 2, 2, 1, true);
+	}
+
+	private static void checkRange(int value, int min, int max, String name) {
+		if (value < min || value > max) {
+			throw new IllegalArgumentException(name + " must be from " + min + " to " + max);
+		}
+	}
+
+	/**
+	 * Returns the count of pins in a rack.
+	 */
+	public int getPins() {
+		return pins;
+	}
+
+	/**
+	 * Returns the count of frames in a game.
+	 */
+	public int getFrames() {
+		return frames;
+	}
+
+	/**
+	 * Returns the count of rolls in a frame without a strike or a spare.
+	 */
+	public int getRollsPerFrame() {
+		return rollsPerFrame;
+	}
+
+	/**
+	 * Returns the count of following rolls added to the score of a strike.
+	 */
+	public int getStrikeBonusRolls() {
+		return strikeBonusRolls;
+	}
+
+	/**
+	 * Returns the count of following rolls added to the score of a spare.
+	 */
+	public int getSpareBonusRolls() {
+		return spareBonusRolls;
+	}
+
+	/**
+	 * Shows if a strike or a spare in the last frame grants the bonus rolls in that frame.
+	 */
+	public boolean hasFillRolls() {
+		return hasFillRolls;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof RuleSet)) {
+			return false;
+		}
+		RuleSet rules = (RuleSet) o;
+		return pins == rules.pins && frames == rules.frames && rollsPerFrame == rules.rollsPerFrame
+				&& strikeBonusRolls == rules.strikeBonusRolls && spareBonusRolls == rules.spareBonusRolls
+				&& hasFillRolls == rules.hasFillRolls;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = pins;
+		hash = hash * 31 + frames;
+		hash = hash * 31 + rollsPerFrame;
+		hash = hash * 31 + strikeBonusRolls;
+		hash = hash * 31 + spareBonusRolls;
+		return hash * 31 + (hasFillRolls ? 1 : 0);
+	}
+
+	@Override
+	public String toString() {
+		return "RuleSet{pins=" + pins + ", frames=" + frames + ", rollsPerFrame=" + rollsPerFrame
+				+ ", strikeBonusRolls=" + strikeBonusRolls + ", spareBonusRolls=" + spareBonusRolls
+				+ ", hasFillRolls=" + hasFillRolls + "}";
+	}
+}
@@ -0,0 +1,377 @@
+package leobro.bowling;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Writes the results tables of a game as text or JSON directly into a buffer supplied by the caller, without building
+ * any intermediate strings or lists. The display slots are taken from the interned lists of the frames, and the
+ * numbers are written digit by digit.
+ * <p>
+ * The renderer remembers what it has written for the last rendered game, so that {@link #renderChanges} writes only
+ * the frames whose display slots or accumulated scores have changed since. A rendering which fails part-way, for
+ * example on a full buffer, is not remembered, so the next one writes the same changes again. Keep one renderer per
+ * display.
+ * The renderer is not thread-safe; use it in the thread registering the rolls, or render a copy of the game.
+ * <p>
+ * The text format has a line per player: the name, then for every frame a bar, one character per display slot and
+ * the accumulated score right-aligned in three characters, then a bar and the score of the player. The changes are
+ * written as a line per frame: the index of the player, the index of the frame, the display slots and the accumulated
+ * score. The JSON format is an object with the array {@code players}, or {@code frames} for the changes, together with
+ * {@code nextPlayer} and {@code active}. A frame not played yet has an empty score in the text and {@code null} in
+ * JSON.
+ */
+public class ScoreboardRenderer {
+
+	/**
+	 * The output formats.
+	 */
+	public enum Format {
+		TEXT, JSON
+	}
+
+	private final Format format;
+	private final ByteBufferAppendable byteBufferAppendable = new ByteBufferAppendable();
+
+	private Game renderedGame;
+	private Object[] renderedSlots = new Object[0];
+	private int[] renderedScores = new int[0];
+	private Object[] writtenSlots = new Object[0];
+	private int[] writtenScores = new int[0];
+
+	/**
+	 * Creates the renderer.
+	 *
+	 * @param format The output format.
+	 */
+	public ScoreboardRenderer(Format format) {
+		this.format = format;
+	}
+
+	/**
+	 * Writes the results tables of all players.
+	 *
+	 * @param game The game to render.
+	 * @param out The destination.
+	 * @throws IOException if the destination fails.
+	 */
+	public void render(Game game, Appendable out) throws IOException {
+		write(game, out, false);
+	}
+
+	/**
+	 * Writes the results tables of all players.
+	 *
+	 * @param game The game to render.
+	 * @param out The destination.
+	 */
+	public void render(Game game, StringBuilder out) {
+		writeToStringBuilder(game, out, false);
+	}
+
+	/**
+	 * Writes the results tables of all players in UTF-8.
+	 *
+	 * @param game The game to render.
+	 * @param out The destination, starting at its position.
+	 * @throws BufferOverflowException if the buffer has not enough space; its position is left unchanged then.
+	 */
+	public void render(Game game, ByteBuffer out) {
+		writeToByteBuffer(game, out, false);
+	}
+
+	/**
+	 * Writes the frames changed since the last rendering of the same game. All the frames are written if a different
+	 * game was rendered last.
+	 *
+	 * @param game The game to render.
+	 * @param out The destination.
+	 * @throws IOException if the destination fails.
+	 */
+	public void renderChanges(Game game, Appendable out) throws IOException {
+		write(game, out, true);
+	}
+
+	/**
+	 * Writes the frames changed since the last rendering of the same game.
+	 *
+	 * @param game The game to render.
+	 * @param out The destination.
+	 */
+	public void renderChanges(Game game, StringBuilder out) {
+		writeToStringBuilder(game, out, true);
+	}
+
+	/**
+	 * Writes the frames changed since the last rendering of the same game in UTF-8.
+	 *
+	 * @param game The game to render.
+	 * @param out The destination, starting at its position.
+	 * @throws BufferOverflowException if the buffer has not enough space; its position is left unchanged then.
+	 */
+	public void renderChanges(Game game, ByteBuffer out) {
+		writeToByteBuffer(game, out, true);
+	}
+
+	private void writeToStringBuilder(Game game, StringBuilder out, boolean isChangesOnly) {
+		try {
+			write(game, out, isChangesOnly);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void writeToByteBuffer(Game game, ByteBuffer out, boolean isChangesOnly) {
+		byteBufferAppendable.buffer = out;
+		int start = out.position();
+		try {
+			write(game, byteBufferAppendable, isChangesOnly);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} catch (BufferOverflowException e) {
+			out.position(start);
+			throw e;
+		} finally {
+			byteBufferAppendable.buffer = null;
+			byteBufferAppendable.highSurrogate = 0;
+		}
+	}
+
+	private void write(Game game, Appendable out, boolean isChangesOnly) throws IOException {
+		int playerCount = game.getPlayerCount();
+		int frameCount = game.getRuleSet().getFrames();
+		if (game != renderedGame || renderedScores.length != playerCount * frameCount) {
+			renderedGame = game;
+			renderedSlots = new Object[playerCount * frameCount];
+			renderedScores = new int[playerCount * frameCount];
+			writtenSlots = new Object[playerCount * frameCount];
+			writtenScores = new int[playerCount * frameCount];
+		}
+
+		boolean isJson = format == Format.JSON;
+		if (isJson) {
+			out.append(isChangesOnly ? "{\"frames\":[" : "{\"players\":[");
+		}
+
+		boolean isFirstEntry = true;
+		for (int player = 0; player < playerCount; player++) {
+			Frame[] frames = game.getPlayerResultsTable(player);
+			if (!isChangesOnly) {
+				writePlayerStart(game, player, isFirstEntry, out);
+				isFirstEntry = false;
+			}
+
+			for (int frame = 0; frame < frames.length; frame++) {
+				List<String> slots = frames[frame].getDisplaySlots();
+				int shownScore = frames[frame].getRollCount() > 0 ? frames[frame].getAccumulatedScore() : -1;
+				int index = player * frameCount + frame;
+				boolean isChanged = renderedSlots[index] != slots || renderedScores[index] != shownScore;
+				writtenSlots[index] = slots;
+				writtenScores[index] = shownScore;
+
+				if (isChangesOnly && !isChanged) {
+					continue;
+				}
+				if (isJson) {
+					boolean isFirst = isChangesOnly ? isFirstEntry : frame == 0;
+					writeJsonFrame(player, frame, slots, shownScore, isChangesOnly, isFirst, out);
+				} else {
+					writeTextFrame(player, frame, slots, shownScore, isChangesOnly, out);
+				}
+				isFirstEntry = false;
+			}
+
+			if (!isChangesOnly) {
+				writePlayerEnd(game.getPlayerScore(player), out);
+			}
+		}
+
+		if (isJson) {
+			out.append("],\"nextPlayer\":");
+			writeNumber(game.getNextPlayer(), out);
+			out.append(",\"active\":").append(game.isGameActive() ? "true" : "false").append('}');
+		}
+
+		Object[] slots = renderedSlots;
+		renderedSlots = writtenSlots;
+		writtenSlots = slots;
+		int[] scores = renderedScores;
+		renderedScores = writtenScores;
+		writtenScores = scores;
+	}
+
+	private void writePlayerStart(Game game, int player, boolean isFirst, Appendable out) throws IOException {
+		String name = game.getPlayer(player).getName();
+		if (format == Format.JSON) {
+			out.append(isFirst ? "{\"name\":" : ",{\"name\":");
+			writeJsonString(name, out);
+			out.append(",\"score\":");
+			writeNumber(game.getPlayerScore(player), out);
+			out.append(",\"frames\":[");
+		} else {
+			out.append(name);
+		}
+	}
+
+	private void writePlayerEnd(int score, Appendable out) throws IOException {
+		if (format == Format.JSON) {
+			out.append("]}");
+		} else {
+			out.append('|');
+			writeNumber(score, out);
+			out.append('\n');
+		}
+	}
+
+	private static void writeTextFrame(int player, int frame, List<String> slots, int score, boolean isChangesOnly,
+			Appendable out) throws IOException {
+		if (isChangesOnly) {
+			writeNumber(player, out);
+			out.append(' ');
+			writeNumber(frame, out);
+			out.append(' ');
+		} else {
+			out.append('|');
+		}
+
+		for (int i = 0; i < slots.size(); i++) {
+			String slot = slots.get(i);
+			out.append(slot.isEmpty() ? " " : slot);
+		}
+
+		out.append(' ');
+		if (isChangesOnly) {
+			if (score >= 0) {
+				writeNumber(score, out);
+			}
+			out.append('\n');
+		} else {
+			for (int width = digitCount(Math.max(score, 0)); width < 3; width++) {
+				out.append(' ');
+			}
+			if (score >= 0) {
+				writeNumber(score, out);
+			} else {
+				out.append(' ');
+			}
+		}
+	}
+
+	private static void writeJsonFrame(int player, int frame, List<String> slots, int score, boolean isChangesOnly,
+			boolean isFirst, Appendable out) throws IOException {
+		out.append(isFirst ? "{" : ",{");
+		if (isChangesOnly) {
+			out.append("\"player\":");
+			writeNumber(player, out);
+			out.append(",\"frame\":");
+			writeNumber(frame, out);
+			out.append(',');
+		}
+
+		out.append("\"slots\":[");
+		for (int i = 0; i < slots.size(); i++) {
+			if (i > 0) {
+				out.append(',');
+			}
+			out.append('"').append(slots.get(i)).append('"');
+		}
+		out.append("],\"score\":");
+		if (score >= 0) {
+			writeNumber(score, out);
+		} else {
+			out.append("null");
+		}
+		out.append('}');
+	}
+
+	private static void writeJsonString(String value, Appendable out) throws IOException {
+		out.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				out.append('\\').append(c);
+			} else if (c < 0x20) {
+				out.append("\\u00").append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xF, 16));
+			} else {
+				out.append(c);
+			}
+		}
+		out.append('"');
+	}
+
+	private static void writeNumber(int value, Appendable out) throws IOException {
+		if (value < 0) {
+			out.append('-');
+			value = -value;
+		}
+		for (int divisor = pow10(digitCount(value) - 1); divisor > 0; divisor /= 10) {
+			out.append((char) ('0' + value / divisor % 10));
+		}
+	}
+
+	private static int digitCount(int value) {
+		int count = 1;
+		while (value >= 10) {
+			value /= 10;
+			count++;
+		}
+		return count;
+	}
+
+	private static int pow10(int exponent) {
+		int result = 1;
+		for (int i = 0; i < exponent; i++) {
+			result *= 10;
+		}
+		return result;
+	}
+
+	/**
+	 * Encodes the appended characters in UTF-8 into the current buffer.
+	 */
+	private static final class ByteBufferAppendable implements Appendable {
+
+		private ByteBuffer buffer;
+		private char highSurrogate;
+
+		@Override
+		public Appendable append(CharSequence sequence) {
+			return append(sequence, 0, sequence.length());
+		}
+
+		@Override
+		public Appendable append(CharSequence sequence, int start, int end) {
+			for (int i = start; i < end; i++) {
+				append(sequence.charAt(i));
+			}
+			return this;
+		}
+
+		@Override
+		public Appendable append(char c) {
+			if (c < 0x80) {
+				buffer.put((byte) c);
+			} else if (c < 0x800) {
+				buffer.put((byte) (0xC0 | (c >> 6)));
+				buffer.put((byte) (0x80 | (c & 0x3F)));
+			} else if (Character.isHighSurrogate(c)) {
+				highSurrogate = c;
+			} else if (Character.isLowSurrogate(c) && highSurrogate != 0) {
+				int codePoint = Character.toCodePoint(highSurrogate, c);
+				highSurrogate = 0;
+				buffer.put((byte) (0xF0 | (codePoint >> 18)));
+				buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+				buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+				buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+			} else {
+				buffer.put((byte) (0xE0 | (c >> 12)));
+				buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+				buffer.put((byte) (0x80 | (c & 0x3F)));
+			}
+			return this;
+		}
+	}
+}
@@ -0,0 +1,144 @@
+package leobro.bowling;
+
+import java.util.Arrays;
+
+/**
+ * Precomputed transitions of the scoring state of one player. The state consists of the frame, the roll within
+ * the frame, the pins already hit on the current rack, whether the tenth frame grants a bonus roll, and the pending
+ * bonuses: how many earlier strikes or spares count the next roll and the roll after it once more.
+ * <p>
+ * For every state and count of pins the table holds the next state and the score added by the roll, so scoring
+ * a roll is a single array lookup. The table is generated from the same rules as {@link Frame#registerRoll(int)} and
+ * {@link TenthFrame#registerRoll(int)}.
+ */
+final class ScoringTable {
+
+	static final int PINS = Frame.PINS_IN_FRAME;
+	static final int FRAMES = 10;
+
+	static final int INVALID = -1;
+
+	private static final int ROLLS = 3;
+	private static final int DOWN = PINS + 1;
+	private static final int GRANTED = 2;
+	private static final int NEXT_BONUS = 3;
+	private static final int SECOND_BONUS = 2;
+
+	/**
+	 * The count of regular states; the state with this index is the final one.
+	 */
+	static final int STATE_COUNT = FRAMES * ROLLS * DOWN * GRANTED * NEXT_BONUS * SECOND_BONUS;
+
+	static final int START = 0;
+	static final int FINAL = STATE_COUNT;
+
+	private static final int DELTA_BITS = 5;
+	private static final int DELTA_MASK = (1 << DELTA_BITS) - 1;
+
+	private static final int[] TRANSITIONS = new int[(STATE_COUNT + 1) * (PINS + 1)];
+
+	static {
+		Arrays.fill(TRANSITIONS, INVALID);
+		for (int state = 0; state < STATE_COUNT; state++) {
+			for (int pins = 0; pins <= PINS; pins++) {
+				TRANSITIONS[state * (PINS + 1) + pins] = computeTransition(state, pins);
+			}
+		}
+	}
+
+	private ScoringTable() {
+	}
+
+	/**
+	 * Returns the transition for the roll, or {@link #INVALID} if the roll breaks the rules in the given state.
+	 */
+	static int transition(int state, int pins) {
+		if (pins < 0 || pins > PINS) {
+			return INVALID;
+		}
+		return TRANSITIONS[state * (PINS + 1) + pins];
+	}
+
+	static int nextState(int transition) {
+		return transition >>> DELTA_BITS;
+	}
+
+	static int scoreDelta(int transition) {
+		return transition & DELTA_MASK;
+	}
+
+	static int frameOf(int state) {
+		return state == FINAL ? FRAMES : state / (ROLLS * DOWN * GRANTED * NEXT_BONUS * SECOND_BONUS);
+	}
+
+	static int rollOf(int state) {
+		return state == FINAL ? 0 : state / (GRANTED * NEXT_BONUS * SECOND_BONUS * DOWN) % ROLLS;
+	}
+
+	/**
+	 * Count of pins standing on the lane before the next roll; none after the end of the game.
+	 */
+	static int pinsStanding(int state) {
+		return state == FINAL ? 0 : PINS - down(state);
+	}
+
+	/**
+	 * Count of the preceding frames which add the next roll to their score as a bonus. These are always the frames
+	 * right before the current one: the previous frame, and the one before it after two strikes in a row.
+	 */
+	static int pendingBonuses(int state) {
+		return state == FINAL ? 0 : state / SECOND_BONUS % NEXT_BONUS;
+	}
+
+	private static int encode(int frame, int roll, int down, int granted, int nextBonus, int secondBonus) {
+		return ((((frame * ROLLS + roll) * DOWN + down) * GRANTED + granted) * NEXT_BONUS + nextBonus)
+				* SECOND_BONUS + secondBonus;
+	}
+
+	private static int down(int state) {
+		return state / (GRANTED * NEXT_BONUS * SECOND_BONUS) % DOWN;
+	}
+
+	private static int computeTransition(int state, int pins) {
+		int secondBonus = state % SECOND_BONUS;
+		int nextBonus = state / SECOND_BONUS % NEXT_BONUS;
+		int granted = state / (NEXT_BONUS * SECOND_BONUS) % GRANTED;
+		int down = down(state);
+		int roll = rollOf(state);
+		int frame = frameOf(state);
+
+		if (pins > PINS - down) {
+			return INVALID;
+		}
+
+		int delta = pins * (1 + nextBonus);
+		int next;
+
+		if (frame < FRAMES - 1) {
+			if (roll == 0 && pins == PINS) {
+				next = encode(frame + 1, 0, 0, 0, secondBonus + 1, 1);
+			} else if (roll == 0) {
+				next = encode(frame, 1, pins, 0, secondBonus, 0);
+			} else if (roll == 1) {
+				int spareBonus = down + pins == PINS ? 1 : 0;
+				next = encode(frame + 1, 0, 0, 0, secondBonus + spareBonus, 0);
+			} else {
+				return INVALID;
+			}
+		} else {
+			boolean isRackCleared = down + pins == PINS;
+			int rack = isRackCleared ? 0 : down + pins;
+
+			if (roll == 0) {
+				next = encode(frame, 1, rack, isRackCleared ? 1 : 0, secondBonus, 0);
+			} else if (roll == 1 && (granted == 1 || isRackCleared)) {
+				next = encode(frame, 2, rack, 1, secondBonus, 0);
+			} else if (roll == 1 || granted == 1) {
+				next = FINAL;
+			} else {
+				return INVALID;
+			}
+		}
+		return next << DELTA_BITS | delta;
+	}
+}
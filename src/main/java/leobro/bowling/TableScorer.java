@@ -0,0 +1,65 @@
+package leobro.bowling;
+
+import java.security.InvalidParameterException;
+
+/**
+ * Scores the game of one player using the precomputed scoring table instead of the frames: every roll is a single
+ * table lookup giving the next state and the added score. Produces the same total score as {@link Game}, but keeps
+ * neither the individual rolls nor the frame scores, so it suits bulk scoring where only the result matters.
+ */
+public final class TableScorer {
+
+	private int state = ScoringTable.START;
+	private int score;
+
+	/**
+	 * Registers the result of the next roll.
+	 *
+	 * @param pins The count of pins hit by this throw.
+	 * @throws InvalidParameterException if the roll breaks the rules or the game is already complete.
+	 */
+	public void roll(int pins) {
+		int transition = ScoringTable.transition(state, pins);
+		if (transition == ScoringTable.INVALID) {
+			throw new InvalidParameterException("Invalid roll");
+		}
+
+		state = ScoringTable.nextState(transition);
+		score += ScoringTable.scoreDelta(transition);
+	}
+
+	/**
+	 * Returns the current score.
+	 *
+	 * @return The total score including all known bonuses.
+	 */
+	public int getScore() {
+		return score;
+	}
+
+	/**
+	 * Returns the current frame index (zero-bound).
+	 *
+	 * @return The index of the frame into which the next roll will be registered; 10 if the game is complete.
+	 */
+	public int getCurrentFrame() {
+		return ScoringTable.frameOf(state);
+	}
+
+	/**
+	 * Shows if all the rolls of the game are registered.
+	 *
+	 * @return {@literal true} if the game is complete; otherwise, {@literal false}.
+	 */
+	public boolean isComplete() {
+		return state == ScoringTable.FINAL;
+	}
+
+	/**
+	 * Starts a new game with the same object.
+	 */
+	public void reset() {
+		state = ScoringTable.START;
+		score = 0;
+	}
+}
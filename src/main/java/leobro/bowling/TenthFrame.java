@@ -8,11 +8,13 @@ import java.util.List;
  */
 public class TenthFrame extends Frame {
 
-    Integer pins3;
+    int pins3 = NO_PINS;
 	private TenthFrameResultsFormatter formatter = new TenthFrameResultsFormatter(this);
 
     @Override
     void registerRoll(int pins) {
+        assertRollAccepted(pins);
+
         if (isFirstRoll()) {
             pins1 = pins;
 
@@ -35,8 +37,63 @@ public class TenthFrame extends Frame {
         score += pins;
     }
 
+    /**
+     * The pins are set up again after a strike or a spare, so a full rack may be standing for any of the three rolls.
+     */
+    @Override
+    int getPinsStanding() {
+        if (isFirstRoll()) {
+            return PINS_IN_FRAME;
+        } else if (isSecondRoll()) {
+            return containsStrike ? PINS_IN_FRAME : PINS_IN_FRAME - pins1;
+        } else if (containsStrike && pins2 != PINS_IN_FRAME) {
+            return PINS_IN_FRAME - pins2;
+        }
+        return PINS_IN_FRAME;
+    }
+
+    void restore(int pins1, int pins2, int pins3, int score, int accumulatedScore) {
+        restore(pins1, pins2, score, accumulatedScore);
+        this.pins3 = pins3;
+        isComplete = pins3 != NO_PINS || (pins2 != NO_PINS && !containsStrike && !containsSpare);
+    }
+
+    @Override
+    void reset() {
+        super.reset();
+        pins3 = NO_PINS;
+    }
+
+    @Override
+    Frame copy() {
+        TenthFrame copy = new TenthFrame();
+        copyTo(copy);
+        copy.pins3 = pins3;
+        return copy;
+    }
+
+    @Override
+    boolean isRackFresh() {
+        if (isFirstRoll()) {
+            return true;
+        } else if (isSecondRoll()) {
+            return containsStrike;
+        }
+        return containsSpare || (containsStrike && pins2 == PINS_IN_FRAME);
+    }
+
+    @Override
+    int getRollCount() {
+        return pins3 == NO_PINS ? super.getRollCount() : 3;
+    }
+
+    @Override
+    int getPins(int roll) {
+        return roll == 2 ? pins3 : super.getPins(roll);
+    }
+
     private boolean isSecondRoll() {
-        return pins2 == null;
+        return pins2 == NO_PINS;
     }
 
     @Override
@@ -1,8 +1,8 @@
 package leobro.bowling;
 
-import java.util.ArrayList;
 import java.util.List;
 
+import static leobro.bowling.Frame.NO_PINS;
 import static leobro.bowling.Frame.PINS_IN_FRAME;
 
 /**
@@ -19,28 +19,24 @@ public class TenthFrameResultsFormatter extends FrameResultsFormatter {
 
 	@Override
 	public List<String> getDisplaySlots() {
-		List<String> slots = new ArrayList<>();
+		int first;
+		int second;
 
 		if (frame.containsStrike) {
-			slots.add(STRIKE);
-
-			if (frame.pins2 == PINS_IN_FRAME) {
-				slots.add(STRIKE);
-			} else {
-				slots.add(frame.pins2.toString());
-			}
+			first = STRIKE_SYMBOL;
+			second = bonusSymbol(frame.pins2);
 		} else {
-			slots = super.getDisplaySlots();
+			first = pinsSymbol(frame.pins1);
+			second = frame.containsSpare ? SPARE_SYMBOL : pinsSymbol(frame.pins2);
 		}
 
-		if (frame.pins3 != null) {
-			if (frame.pins3 == PINS_IN_FRAME) {
-				slots.add(STRIKE);
-			} else {
-				slots.add(frame.pins3.toString());
-			}
+		if (frame.pins3 == NO_PINS) {
+			return slotsOf(first, second);
 		}
+		return slotsOf(first, second, bonusSymbol(frame.pins3));
+	}
 
-		return slots;
+	private static int bonusSymbol(int pins) {
+		return pins == PINS_IN_FRAME ? STRIKE_SYMBOL : pinsSymbol(pins);
 	}
 }
@@ -0,0 +1,232 @@
+package leobro.bowling;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Keeps the games of many players in flat primitive arrays indexed by the player instead of a {@link Player} with
+ * ten {@link Frame} objects per bowler. The pins, frame scores, accumulated scores, totals and the scoring state
+ * of all players lie in a few arrays, so ranking and aggregates are sequential scans over them.
+ * <p>
+ * Every player plays their own game; the order of players is not enforced. The rolls are scored with
+ * {@link ScoringTable}. {@link #getResultsTable(int)} creates the usual frames of one player for display.
+ */
+public class TournamentStore {
+
+	private static final int FRAMES = ScoringTable.FRAMES;
+	private static final int ROLL_SLOTS = FRAMES * 2 + 1;
+
+	private final String[] names;
+	private final byte[] pins;
+	private final int[] frameScores;
+	private final int[] accumulatedScores;
+	private final int[] totals;
+	private final int[] states;
+
+	/**
+	 * Creates the store for the given players.
+	 *
+	 * @param playerNames The names of players; the index in the list is the player's index in the store.
+	 */
+	public TournamentStore(List<String> playerNames) {
+		int count = playerNames.size();
+
+		names = playerNames.toArray(new String[0]);
+		pins = new byte[count * ROLL_SLOTS];
+		frameScores = new int[count * FRAMES];
+		accumulatedScores = new int[count * FRAMES];
+		totals = new int[count];
+		states = new int[count];
+
+		Arrays.fill(pins, (byte) Frame.NO_PINS);
+		Arrays.fill(states, ScoringTable.START);
+	}
+
+	/**
+	 * Returns the count of players in the store.
+	 *
+	 * @return The count of players.
+	 */
+	public int getPlayerCount() {
+		return names.length;
+	}
+
+	/**
+	 * Returns the name of the player.
+	 *
+	 * @param player The index of the player.
+	 * @return The name of the player.
+	 */
+	public String getPlayerName(int player) {
+		return names[player];
+	}
+
+	/**
+	 * Registers the result of the next roll of the player.
+	 *
+	 * @param player The index of the player.
+	 * @param pins The count of pins hit by this throw.
+	 * @throws InvalidParameterException if the roll breaks the rules or the player's game is complete.
+	 */
+	public void roll(int player, int pins) {
+		int state = states[player];
+		int transition = ScoringTable.transition(state, pins);
+		if (transition == ScoringTable.INVALID) {
+			throw new InvalidParameterException("Invalid roll");
+		}
+
+		int frame = ScoringTable.frameOf(state);
+		int roll = ScoringTable.rollOf(state);
+		int frames = player * FRAMES;
+
+		this.pins[player * ROLL_SLOTS + frame * 2 + roll] = (byte) pins;
+		frameScores[frames + frame] += pins;
+
+		int firstChangedFrame = frame - ScoringTable.pendingBonuses(state);
+		for (int i = firstChangedFrame; i < frame; i++) {
+			frameScores[frames + i] += pins;
+		}
+
+		int accumulatedScore = firstChangedFrame == 0 ? 0 : accumulatedScores[frames + firstChangedFrame - 1];
+		for (int i = firstChangedFrame; i <= frame; i++) {
+			accumulatedScore += frameScores[frames + i];
+			accumulatedScores[frames + i] = accumulatedScore;
+		}
+
+		totals[player] += ScoringTable.scoreDelta(transition);
+		states[player] = ScoringTable.nextState(transition);
+	}
+
+	/**
+	 * Registers a series of rolls of the player, stopping at the first invalid roll, see
+	 * {@link Game#rollAll(int[], int, int)}.
+	 *
+	 * @param player The index of the player.
+	 * @param pins The array containing the count of pins hit by every throw.
+	 * @param offset The index of the first roll in the array.
+	 * @param length The count of rolls.
+	 * @return The count of registered rolls.
+	 */
+	public int rollAll(int player, int[] pins, int offset, int length) {
+		int count = 0;
+		while (count < length && ScoringTable.transition(states[player], pins[offset + count]) != ScoringTable.INVALID) {
+			roll(player, pins[offset + count]);
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the current score of the player.
+	 *
+	 * @param player The index of the player.
+	 * @return The total score including all known bonuses.
+	 */
+	public int getScore(int player) {
+		return totals[player];
+	}
+
+	/**
+	 * Shows if the player has completed their game.
+	 *
+	 * @param player The index of the player.
+	 * @return {@literal true} if the game of the player is complete; otherwise, {@literal false}.
+	 */
+	public boolean isComplete(int player) {
+		return states[player] == ScoringTable.FINAL;
+	}
+
+	/**
+	 * Returns the players ordered by their current score, the best first. Players with equal scores keep their order.
+	 *
+	 * @return The indexes of the players.
+	 */
+	public int[] rank() {
+		int[] positions = new int[GameSpace.MAX_SCORE + 2];
+		for (int total : totals) {
+			positions[GameSpace.MAX_SCORE - total + 1]++;
+		}
+		for (int i = 1; i < positions.length; i++) {
+			positions[i] += positions[i - 1];
+		}
+
+		int[] ranking = new int[totals.length];
+		for (int player = 0; player < totals.length; player++) {
+			ranking[positions[GameSpace.MAX_SCORE - totals[player]]++] = player;
+		}
+		return ranking;
+	}
+
+	/**
+	 * Returns the highest current score.
+	 *
+	 * @return The maximum score among all players; zero if there are no players.
+	 */
+	public int getMaxScore() {
+		int max = 0;
+		for (int total : totals) {
+			max = Math.max(max, total);
+		}
+		return max;
+	}
+
+	/**
+	 * Returns the average current score.
+	 *
+	 * @return The average score of all players.
+	 */
+	public double getAverageScore() {
+		long sum = 0;
+		for (int total : totals) {
+			sum += total;
+		}
+		return totals.length == 0 ? 0 : (double) sum / totals.length;
+	}
+
+	/**
+	 * Returns the count of players per current score.
+	 *
+	 * @return The array where the element with index {@code score} is the count of players having that score.
+	 */
+	public int[] getScoreHistogram() {
+		int[] histogram = new int[GameSpace.MAX_SCORE + 1];
+		for (int total : totals) {
+			histogram[total]++;
+		}
+		return histogram;
+	}
+
+	/**
+	 * Creates the frames of the player, the same as {@link Game#getPlayerResultsTable(int)} returns. The frames are
+	 * copies and do not change with further rolls. The accumulated scores are stored up to the current frame only,
+	 * so the frames not played yet take the last of them.
+	 *
+	 * @param player The index of the player.
+	 * @return The results table of the player.
+	 */
+	public Frame[] getResultsTable(int player) {
+		Frame[] frames = new Frame[FRAMES];
+		int rolls = player * ROLL_SLOTS;
+		int scores = player * FRAMES;
+		int accumulatedScore = 0;
+
+		for (int i = 0; i < FRAMES - 1; i++) {
+			if (pins[rolls + i * 2] != Frame.NO_PINS) {
+				accumulatedScore = accumulatedScores[scores + i];
+			}
+			frames[i] = new Frame();
+			frames[i].restore(pins[rolls + i * 2], pins[rolls + i * 2 + 1], frameScores[scores + i], accumulatedScore);
+		}
+
+		int last = FRAMES - 1;
+		if (pins[rolls + last * 2] != Frame.NO_PINS) {
+			accumulatedScore = accumulatedScores[scores + last];
+		}
+		TenthFrame tenthFrame = new TenthFrame();
+		tenthFrame.restore(pins[rolls + last * 2], pins[rolls + last * 2 + 1], pins[rolls + last * 2 + 2],
+				frameScores[scores + last], accumulatedScore);
+		frames[last] = tenthFrame;
+		return frames;
+	}
+}
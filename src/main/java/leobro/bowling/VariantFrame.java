@@ -0,0 +1,164 @@
+package leobro.bowling;
+
+import java.util.List;
+
+import static leobro.bowling.FrameResultsFormatter.EMPTY_SYMBOL;
+import static leobro.bowling.FrameResultsFormatter.SPARE_SYMBOL;
+import static leobro.bowling.FrameResultsFormatter.STRIKE_SYMBOL;
+import static leobro.bowling.FrameResultsFormatter.pinsSymbol;
+import static leobro.bowling.FrameResultsFormatter.slotsOf;
+
+/**
+ * Frame of a game played by other rules than {@link RuleSet#TEN_PIN}. Reads the count of pins, rolls and bonus rolls
+ * from the {@link RuleSet}, and serves as both the usual and the last frame. The last frame with fill rolls sets up
+ * the pins again whenever all of them are down, like {@link TenthFrame}.
+ */
+class VariantFrame extends Frame {
+
+	private final RuleSet rules;
+	private final boolean isLast;
+	private int pins3 = NO_PINS;
+	private int rollCount;
+	private int pinsStanding;
+	private boolean isRackFresh;
+	private int rollLimit;
+
+	VariantFrame(RuleSet rules, boolean isLast) {
+		this.rules = rules;
+		this.isLast = isLast;
+		reset();
+	}
+
+	@Override
+	void registerRoll(int pins) {
+		assertRollAccepted(pins);
+
+		if (rollCount == 0) {
+			pins1 = pins;
+		} else if (rollCount == 1) {
+			pins2 = pins;
+		} else {
+			pins3 = pins;
+		}
+		rollCount++;
+		score += pins;
+		pinsStanding -= pins;
+
+		if (pinsStanding == 0 && rollCount == 1) {
+			containsStrike = true;
+			grantBonus(rules.getStrikeBonusRolls());
+		} else if (pinsStanding == 0 && rollCount == 2 && !containsStrike) {
+			containsSpare = true;
+			grantBonus(rules.getSpareBonusRolls());
+		}
+
+		isRackFresh = pinsStanding == 0;
+		if (isRackFresh) {
+			pinsStanding = rules.getPins();
+		}
+		isComplete = rollCount == rollLimit;
+	}
+
+	/**
+	 * The bonus of the last frame comes from its fill rolls, and the other frames wait for the bonus from the next
+	 * frames.
+	 */
+	private void grantBonus(int bonusRolls) {
+		if (!isLast) {
+			pendingRolls = bonusRolls;
+			rollLimit = rollCount;
+		} else if (rules.hasFillRolls()) {
+			rollLimit = rollCount + bonusRolls;
+		} else {
+			rollLimit = rollCount;
+		}
+	}
+
+	@Override
+	void reset() {
+		super.reset();
+		pins3 = NO_PINS;
+		rollCount = 0;
+		pinsStanding = rules.getPins();
+		isRackFresh = true;
+		rollLimit = rules.getRollsPerFrame();
+	}
+
+	@Override
+	Frame copy() {
+		VariantFrame copy = new VariantFrame(rules, isLast);
+		copyTo(copy);
+		copy.pins3 = pins3;
+		copy.rollCount = rollCount;
+		copy.pinsStanding = pinsStanding;
+		copy.isRackFresh = isRackFresh;
+		copy.rollLimit = rollLimit;
+		return copy;
+	}
+
+	@Override
+	int getPinsInRack() {
+		return rules.getPins();
+	}
+
+	@Override
+	int getPinsStanding() {
+		return pinsStanding;
+	}
+
+	@Override
+	boolean isRackFresh() {
+		return isRackFresh;
+	}
+
+	@Override
+	int getRollCount() {
+		return rollCount;
+	}
+
+	@Override
+	int getPins(int roll) {
+		return roll == 2 ? pins3 : super.getPins(roll);
+	}
+
+	/**
+	 * A strike in a usual frame is shown in the last slot, like in ten-pin. Otherwise every roll has its slot: the roll
+	 * hitting all the pins of a full rack is shown as a strike, the roll clearing the pins left standing by the
+	 * previous rolls as a spare, also the candlepin ten-box earning no bonus, and any other roll by its count of pins.
+	 */
+	@Override
+	public List<String> getDisplaySlots() {
+		int slotCount = Math.max(rules.getRollsPerFrame(), rollCount);
+		if (containsStrike && !isLast) {
+			return slotCount == 2 ? slotsOf(EMPTY_SYMBOL, STRIKE_SYMBOL)
+					: slotsOf(EMPTY_SYMBOL, EMPTY_SYMBOL, STRIKE_SYMBOL);
+		}
+
+		if (slotCount == 2) {
+			return slotsOf(symbolOf(0), symbolOf(1));
+		}
+		return slotsOf(symbolOf(0), symbolOf(1), symbolOf(2));
+	}
+
+	private int symbolOf(int roll) {
+		if (roll >= rollCount) {
+			return EMPTY_SYMBOL;
+		}
+
+		int standing = rules.getPins();
+		boolean isFresh = true;
+		for (int i = 0; i < roll; i++) {
+			standing -= getPins(i);
+			isFresh = standing == 0;
+			if (isFresh) {
+				standing = rules.getPins();
+			}
+		}
+
+		int pins = getPins(roll);
+		if (pins == standing) {
+			return isFresh ? STRIKE_SYMBOL : SPARE_SYMBOL;
+		}
+		return pinsSymbol(pins);
+	}
+}
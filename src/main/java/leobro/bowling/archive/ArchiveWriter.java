@@ -0,0 +1,100 @@
+package leobro.bowling.archive;
+
+import leobro.bowling.Game;
+import leobro.bowling.GameCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes finished games into an archive file which can be re-scored by {@link Rescoring}.
+ * <p>
+ * The archive is a plain sequence of records, each being the size of the game encoded by {@link GameCodec} as
+ * a short followed by the encoded game. The records are collected in a buffer and written to the file when it is
+ * full, so appending a game does not go to the file system every time.
+ */
+public class ArchiveWriter implements AutoCloseable {
+
+	static final int MAX_RECORD_SIZE = 2 + Short.MAX_VALUE;
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final FileChannel channel;
+	private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+	private long count;
+
+	private ArchiveWriter(FileChannel channel) {
+		this.channel = channel;
+	}
+
+	/**
+	 * Opens the archive for appending, creating the file if needed.
+	 *
+	 * @param file The archive file.
+	 * @return The writer appending after the existing records.
+	 * @throws IOException if the file can not be opened.
+	 */
+	public static ArchiveWriter open(Path file) throws IOException {
+		return new ArchiveWriter(FileChannel.open(file,
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+	}
+
+	/**
+	 * Appends the game to the archive. A game which can not be encoded leaves the archive as it was.
+	 *
+	 * @param game The ten-pin game.
+	 * @throws IllegalArgumentException if the game can not be encoded.
+	 * @throws IOException if the buffered records can not be written.
+	 */
+	public void append(Game game) throws IOException {
+		int size = GameCodec.encodedSize(game);
+		if (size > Short.MAX_VALUE) {
+			throw new IllegalArgumentException("Game is too large to archive");
+		}
+		if (buffer.remaining() < 2 + size) {
+			flush();
+		}
+
+		int start = buffer.position();
+		try {
+			buffer.putShort((short) size);
+			GameCodec.encode(game, buffer);
+		} catch (RuntimeException e) {
+			buffer.position(start);
+			throw e;
+		}
+		count++;
+	}
+
+	/**
+	 * Returns the count of games appended by this writer.
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Writes the buffered records to the file.
+	 *
+	 * @throws IOException if the records can not be written.
+	 */
+	public void flush() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			flush();
+		} finally {
+			channel.close();
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package leobro.bowling.archive;
+
+/**
+ * The formula adding the handicap to the score of a player when the archived games are re-scored.
+ */
+@FunctionalInterface
+public interface Handicap {
+
+	/**
+	 * No handicap.
+	 */
+	Handicap NONE = (player, score) -> 0;
+
+	/**
+	 * Computes the handicap of the player in one game.
+	 *
+	 * @param player The name of the player.
+	 * @param score The score of the player in the game.
+	 * @return The count of points added to the score.
+	 */
+	int compute(String player, int score);
+}
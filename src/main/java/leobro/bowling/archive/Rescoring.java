@@ -0,0 +1,252 @@
+package leobro.bowling.archive;
+
+import leobro.bowling.Game;
+import leobro.bowling.GameCodec;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Re-scores all the games of an archive written by {@link ArchiveWriter}, e.g. after a change of the handicap
+ * formula, and writes the results to a text file.
+ * <p>
+ * The archive is mapped into memory in chunks which always end at a record boundary, and every chunk is cut into
+ * batches of records scored in parallel. Every batch replays its games through {@link Game#roll(int)} in one game
+ * object, {@link GameCodec#decode(ByteBuffer, Game) decoded} in place, and formats its lines into its own buffer.
+ * The buffers are written to the output in the order of the archive, and only a limited count of batches is in
+ * flight at once, so the memory used does not depend on the size of the archive.
+ * <p>
+ * Every player of every game is one line of tab-separated values: the index of the game in the archive, the index
+ * of the player, the name, the score, the handicap and the score with the handicap.
+ */
+public final class Rescoring {
+
+	private static final int CHUNK_SIZE = 64 * 1024 * 1024;
+	private static final int RECORDS_PER_BATCH = 4096;
+	private static final int BATCHES_PER_THREAD = 2;
+
+	private Rescoring() {
+	}
+
+	/**
+	 * Re-scores the archive using the common fork-join pool.
+	 *
+	 * @param archive The archive file.
+	 * @param output The file for the results; it is replaced if it exists.
+	 * @param handicap The formula of the handicap.
+	 * @return The statistics of the run.
+	 * @throws IOException if a file can not be read or written.
+	 * @throws IllegalArgumentException if the archive contains an invalid record.
+	 */
+	public static RescoringReport run(Path archive, Path output, Handicap handicap) throws IOException {
+		return run(archive, output, handicap, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Re-scores the archive using the given fork-join pool.
+	 *
+	 * @param archive The archive file.
+	 * @param output The file for the results; it is replaced if it exists.
+	 * @param handicap The formula of the handicap.
+	 * @param pool The pool to score the games.
+	 * @return The statistics of the run.
+	 * @throws IOException if a file can not be read or written.
+	 * @throws IllegalArgumentException if the archive contains an invalid record.
+	 */
+	public static RescoringReport run(Path archive, Path output, Handicap handicap, ForkJoinPool pool)
+			throws IOException {
+		return run(archive, output, handicap, pool, CHUNK_SIZE, RECORDS_PER_BATCH);
+	}
+
+	static RescoringReport run(Path archive, Path output, Handicap handicap, ForkJoinPool pool,
+							   int chunkSize, int recordsPerBatch) throws IOException {
+		resetPeakHeapUsage();
+		long start = System.nanoTime();
+
+		try (FileChannel in = FileChannel.open(archive, StandardOpenOption.READ);
+			 FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+					 StandardOpenOption.TRUNCATE_EXISTING)) {
+			Pipeline pipeline = new Pipeline(out, handicap, pool, pool.getParallelism() * BATCHES_PER_THREAD);
+			long size = in.size();
+			long position = 0;
+
+			while (position < size) {
+				ByteBuffer chunk = in.map(FileChannel.MapMode.READ_ONLY, position, Math.min(chunkSize, size - position));
+				boolean isLastChunk = position + chunk.limit() == size;
+				int end = pipeline.submitChunk(chunk, recordsPerBatch);
+
+				if (end == 0 || isLastChunk && end < chunk.limit()) {
+					throw new IllegalArgumentException("Archive record is truncated at " + (position + end));
+				}
+				position += end;
+			}
+			pipeline.finish();
+			return new RescoringReport(pipeline.recordCount, pipeline.lineCount, System.nanoTime() - start,
+					getPeakHeapUsage());
+		}
+	}
+
+	private static void resetPeakHeapUsage() {
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP) {
+				pool.resetPeakUsage();
+			}
+		}
+	}
+
+	private static long getPeakHeapUsage() {
+		long peak = 0;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+				peak += pool.getPeakUsage().getUsed();
+			}
+		}
+		return peak;
+	}
+
+	/**
+	 * Submits the batches and writes their results in order, waiting for the oldest batch when too many are
+	 * in flight.
+	 */
+	private static class Pipeline {
+
+		private final FileChannel out;
+		private final Handicap handicap;
+		private final ForkJoinPool pool;
+		private final int maxInFlight;
+		private final ArrayDeque<ForkJoinTask<Batch>> inFlight = new ArrayDeque<>();
+		private long recordCount;
+		private long lineCount;
+
+		Pipeline(FileChannel out, Handicap handicap, ForkJoinPool pool, int maxInFlight) {
+			this.out = out;
+			this.handicap = handicap;
+			this.pool = pool;
+			this.maxInFlight = Math.max(1, maxInFlight);
+		}
+
+		/**
+		 * Cuts the chunk into batches of complete records and submits them.
+		 *
+		 * @return The position in the chunk after the last complete record.
+		 */
+		int submitChunk(ByteBuffer chunk, int recordsPerBatch) throws IOException {
+			int end = 0;
+			while (true) {
+				int batchStart = end;
+				int count = 0;
+				while (count < recordsPerBatch && end + 2 <= chunk.limit()) {
+					int size = chunk.getShort(end);
+					if (size < 0) {
+						throw new IllegalArgumentException("Invalid size of the archive record");
+					}
+					if (end + 2 + size > chunk.limit()) {
+						break;
+					}
+					end += 2 + size;
+					count++;
+				}
+				if (count == 0) {
+					return end;
+				}
+
+				ByteBuffer records = chunk.duplicate();
+				records.position(batchStart).limit(end);
+				submit(new Batch(records.slice(), recordCount, count, handicap));
+				recordCount += count;
+			}
+		}
+
+		private void submit(Batch batch) throws IOException {
+			if (inFlight.size() == maxInFlight) {
+				write(inFlight.poll().join());
+			}
+			inFlight.add(pool.submit(batch::score));
+		}
+
+		void finish() throws IOException {
+			while (!inFlight.isEmpty()) {
+				write(inFlight.poll().join());
+			}
+		}
+
+		private void write(Batch batch) throws IOException {
+			ByteBuffer bytes = batch.result;
+			while (bytes.hasRemaining()) {
+				out.write(bytes);
+			}
+			lineCount += batch.lineCount;
+		}
+	}
+
+	/**
+	 * Scores a series of records and keeps their lines.
+	 */
+	private static class Batch {
+
+		private final ByteBuffer records;
+		private final long firstRecord;
+		private final int count;
+		private final Handicap handicap;
+		private ByteBuffer result;
+		private int lineCount;
+
+		Batch(ByteBuffer records, long firstRecord, int count, Handicap handicap) {
+			this.records = records;
+			this.firstRecord = firstRecord;
+			this.count = count;
+			this.handicap = handicap;
+		}
+
+		Batch score() {
+			StringBuilder lines = new StringBuilder(count * 32);
+			Game game = new Game(Collections.singletonList(""));
+
+			for (int i = 0; i < count; i++) {
+				int size = records.getShort();
+				ByteBuffer record = records.duplicate();
+				record.limit(records.position() + size);
+				records.position(records.position() + size);
+
+				GameCodec.decode(record, game);
+				for (int player = 0; player < game.getPlayerCount(); player++) {
+					String name = game.getPlayerName(player);
+					int score = game.getPlayerScore(player);
+					int points = handicap.compute(name, score);
+					lines.append(firstRecord + i).append('\t').append(player).append('\t').append(name)
+							.append('\t').append(score).append('\t').append(points)
+							.append('\t').append(score + points).append('\n');
+					lineCount++;
+				}
+			}
+			result = StandardCharsets.UTF_8.encode(CharBuffer.wrap(lines));
+			return this;
+		}
+	}
+
+	/**
+	 * Re-scores the archive without handicap and prints the statistics.
+	 *
+	 * @param args The archive file and the output file.
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			System.err.println("Usage: Rescoring <archive> <output>");
+			System.exit(1);
+		}
+		System.out.println(run(Paths.get(args[0]), Paths.get(args[1]), Handicap.NONE));
+	}
+}
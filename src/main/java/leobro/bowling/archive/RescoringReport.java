@@ -0,0 +1,61 @@
+package leobro.bowling.archive;
+
+/**
+ * The statistics of one run of {@link Rescoring}.
+ */
+public final class RescoringReport {
+
+	private final long recordCount;
+	private final long lineCount;
+	private final long nanos;
+	private final long peakHeapBytes;
+
+	RescoringReport(long recordCount, long lineCount, long nanos, long peakHeapBytes) {
+		this.recordCount = recordCount;
+		this.lineCount = lineCount;
+		this.nanos = nanos;
+		this.peakHeapBytes = peakHeapBytes;
+	}
+
+	/**
+	 * Returns the count of games read from the archive.
+	 */
+	public long getRecordCount() {
+		return recordCount;
+	}
+
+	/**
+	 * Returns the count of lines written to the output, one per player of every game.
+	 */
+	public long getLineCount() {
+		return lineCount;
+	}
+
+	/**
+	 * Returns the duration of the run in nanoseconds.
+	 */
+	public long getNanos() {
+		return nanos;
+	}
+
+	/**
+	 * Returns the count of games re-scored per second.
+	 */
+	public double getRecordsPerSecond() {
+		return nanos == 0 ? 0 : recordCount * 1e9 / nanos;
+	}
+
+	/**
+	 * Returns the peak usage of the heap during the run, summed over the memory pools of the heap. The peaks of
+	 * the pools are reset when the run starts, so the value is not affected by the earlier work of the process.
+	 */
+	public long getPeakHeapBytes() {
+		return peakHeapBytes;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%d games, %d lines in %.1f ms: %.0f games/s, peak heap %.1f MB",
+				recordCount, lineCount, nanos / 1e6, getRecordsPerSecond(), peakHeapBytes / (1024.0 * 1024));
+	}
+}
@@ -0,0 +1,155 @@
+package leobro.bowling.engine;
+
+import leobro.bowling.Game;
+import leobro.bowling.GamePool;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Hosts many concurrent games keyed by the lane identifier. {@link Game} is not thread-safe, so every lane is bound
+ * to one of several single-threaded stripes, and all operations on the lane's game are executed by that stripe
+ * in the order of submission. Different lanes are spread over the stripes and run in parallel without any global
+ * lock. Finished games are returned to a {@link GamePool} and reused for the following games.
+ */
+public class GameEngine implements AutoCloseable {
+
+	private final Map<String, Game> games = new ConcurrentHashMap<>();
+	private final ExecutorService[] stripes;
+	private final GamePool pool = new GamePool();
+
+	/**
+	 * Creates the engine with one stripe per available processor.
+	 */
+	public GameEngine() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Creates the engine with the given count of stripes.
+	 *
+	 * @param stripeCount The count of threads serving the lanes.
+	 */
+	public GameEngine(int stripeCount) {
+		if (stripeCount < 1) {
+			throw new IllegalArgumentException("At least one stripe is needed");
+		}
+
+		stripes = new ExecutorService[stripeCount];
+		for (int i = 0; i < stripeCount; i++) {
+			final int stripe = i;
+			stripes[i] = Executors.newSingleThreadExecutor(task -> {
+				Thread thread = new Thread(task, "game-engine-" + stripe);
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	/**
+	 * Starts a new game on the lane. The previous game on the lane, if any, is discarded.
+	 *
+	 * @param laneId The identifier of the lane.
+	 * @param playerNames The names of players as they will be shown in the game table.
+	 * @return The future completed when the game is started.
+	 */
+	public CompletableFuture<Void> startGame(String laneId, List<String> playerNames) {
+		return CompletableFuture.runAsync(() -> release(games.put(laneId, pool.acquire(playerNames))), stripeOf(laneId));
+	}
+
+	/**
+	 * Registers the result of the current roll on the lane, see {@link Game#roll(int)}.
+	 *
+	 * @param laneId The identifier of the lane.
+	 * @param pins The count of pins hit by this throw.
+	 * @return The future completed when the roll is registered, or completed exceptionally if the lane has no game
+	 * or the roll is invalid.
+	 */
+	public CompletableFuture<Void> roll(String laneId, int pins) {
+		return CompletableFuture.runAsync(() -> getGame(laneId).roll(pins), stripeOf(laneId));
+	}
+
+	/**
+	 * Reads the state of the lane's game in the lane's stripe, so that it never overlaps with registering a roll.
+	 * The query must not keep the reference to the game, which is reused for another lane once it is finished.
+	 *
+	 * @param laneId The identifier of the lane.
+	 * @param query The function extracting the needed values from the game.
+	 * @param <T> The type of the result.
+	 * @return The future with the result of the query.
+	 */
+	public <T> CompletableFuture<T> query(String laneId, Function<Game, T> query) {
+		return CompletableFuture.supplyAsync(() -> query.apply(getGame(laneId)), stripeOf(laneId));
+	}
+
+	/**
+	 * Removes the lane's game from the engine.
+	 *
+	 * @param laneId The identifier of the lane.
+	 * @return The future completed when the game is removed.
+	 */
+	public CompletableFuture<Void> finishGame(String laneId) {
+		return CompletableFuture.runAsync(() -> release(games.remove(laneId)), stripeOf(laneId));
+	}
+
+	/**
+	 * Returns the count of lanes having a game.
+	 *
+	 * @return The count of hosted games.
+	 */
+	public int getGameCount() {
+		return games.size();
+	}
+
+	/**
+	 * Returns the pool of the games, e.g. to watch its hit rate.
+	 *
+	 * @return The pool.
+	 */
+	public GamePool getPool() {
+		return pool;
+	}
+
+	/**
+	 * Stops accepting new operations and waits for the submitted ones to complete. If the calling thread is
+	 * interrupted while waiting, returns without waiting further and keeps the thread interrupted.
+	 */
+	@Override
+	public void close() {
+		for (ExecutorService stripe : stripes) {
+			stripe.shutdown();
+		}
+		try {
+			for (ExecutorService stripe : stripes) {
+				stripe.awaitTermination(1, TimeUnit.MINUTES);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private Game getGame(String laneId) {
+		Game game = games.get(laneId);
+		if (game == null) {
+			throw new IllegalArgumentException("No game on the lane " + laneId);
+		}
+		return game;
+	}
+
+	private void release(Game game) {
+		if (game != null) {
+			pool.release(game);
+		}
+	}
+
+	private ExecutorService stripeOf(String laneId) {
+		int hash = laneId.hashCode();
+		return stripes[Math.floorMod(hash ^ (hash >>> 16), stripes.length)];
+	}
+}
@@ -0,0 +1,138 @@
+package leobro.bowling.journal;
+
+import leobro.bowling.Game;
+import leobro.bowling.GameCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import static leobro.bowling.journal.RollJournal.*;
+
+/**
+ * Reads the records of {@link RollJournal}. The file is mapped in chunks which always start at a record boundary.
+ */
+final class JournalReader {
+
+	private static final int CHUNK_SIZE = 64 * 1024 * 1024;
+
+	private JournalReader() {
+	}
+
+	/**
+	 * Returns the position right after the last complete record.
+	 */
+	static long findEnd(FileChannel channel) throws IOException {
+		return read(channel, null);
+	}
+
+	static void replay(FileChannel channel, Map<Long, Game> games) throws IOException {
+		read(channel, games);
+	}
+
+	private static long read(FileChannel channel, Map<Long, Game> games) throws IOException {
+		long size = channel.size();
+		long position = 0;
+		CRC32 crc = new CRC32();
+
+		while (position < size) {
+			ByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(CHUNK_SIZE, size - position));
+
+			while (chunk.hasRemaining()) {
+				int start = chunk.position();
+				if (chunk.get(start) == END_OF_DATA) {
+					return position + start;
+				}
+				if (chunk.remaining() < MAX_RECORD_SIZE && position + chunk.limit() < size) {
+					break;
+				}
+				if (!readRecord(chunk, games, crc)) {
+					return position + start;
+				}
+			}
+			if (chunk.position() == 0) {
+				throw new IllegalStateException("Journal record is too long at " + position);
+			}
+			position += chunk.position();
+		}
+		return position;
+	}
+
+	/**
+	 * Reads the record at the position of the chunk and moves past it. Returns {@code false} without reading if
+	 * the record is torn: its type is unknown, it does not fit into the chunk or its checksum does not match.
+	 */
+	private static boolean readRecord(ByteBuffer chunk, Map<Long, Game> games, CRC32 crc) {
+		int start = chunk.position();
+		byte type = chunk.get(start);
+		int length = recordLength(chunk, start, type);
+		if (length < 0 || length > chunk.limit() - start) {
+			return false;
+		}
+		int end = start + length - CRC_SIZE;
+		if (chunk.getInt(end) != checksum(crc, type, chunk, start + 1, end)) {
+			return false;
+		}
+
+		chunk.position(start + 1);
+		long gameId = chunk.getLong();
+
+		switch (type) {
+			case GAME_STARTED:
+				int size = chunk.getShort();
+				ByteBuffer encoded = chunk.duplicate();
+				encoded.limit(chunk.position() + size);
+				chunk.position(chunk.position() + size);
+				if (games != null) {
+					games.put(gameId, GameCodec.decode(encoded));
+				}
+				break;
+			case ROLL:
+				int player = chunk.get() & 0xFF;
+				int frame = chunk.get();
+				int pins = chunk.get();
+				if (games != null) {
+					replayRoll(games.get(gameId), gameId, player, frame, pins);
+				}
+				break;
+			default:
+				if (games != null) {
+					games.remove(gameId);
+				}
+		}
+		chunk.position(start + length);
+		return true;
+	}
+
+	/**
+	 * Returns the length of the record including its checksum, or -1 if the record is not valid.
+	 */
+	private static int recordLength(ByteBuffer chunk, int start, byte type) {
+		switch (type) {
+			case GAME_STARTED:
+				if (chunk.limit() - start < HEADER_SIZE + 2) {
+					return -1;
+				}
+				int size = chunk.getShort(start + HEADER_SIZE);
+				return size < 0 ? -1 : HEADER_SIZE + 2 + size + CRC_SIZE;
+			case ROLL:
+				return ROLL_SIZE;
+			case GAME_FINISHED:
+				return GAME_FINISHED_SIZE;
+			default:
+				return -1;
+		}
+	}
+
+	private static void replayRoll(Game game, long gameId, int player, int frame, int pins) {
+		if (game == null) {
+			throw new IllegalStateException("Roll for the unknown game " + gameId);
+		}
+		if (game.getNextPlayer() != player || game.getCurrentFrame() != frame) {
+			throw new IllegalStateException("Roll out of order in the game " + gameId);
+		}
+		game.roll(pins);
+	}
+}
@@ -0,0 +1,252 @@
+package leobro.bowling.journal;
+
+import leobro.bowling.Game;
+import leobro.bowling.GameCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of roll events, written through a memory-mapped file, from which the games can be rebuilt
+ * after a restart of the server.
+ * <p>
+ * The file is a sequence of records, each starting with a type byte: the start of a game with its players encoded
+ * by {@link GameCodec}, a roll with the player index, frame index and pins, or the end of a game. Every record ends
+ * with the CRC-32 of its bytes. A zero type byte marks the end of the data, and so does a record whose checksum does
+ * not match: after a power loss the dirty pages may have reached the storage in any order, so the last records may
+ * be torn even though their type byte is written last.
+ * <p>
+ * The mapped pages are forced to the storage after every group of records or on {@link #commit()}. The writer which
+ * completes a group forces the pages after releasing the journal, so the other writers go on appending meanwhile;
+ * a record is durable only after the next force, and the methods appending records do not wait for it.
+ */
+public class RollJournal implements AutoCloseable {
+
+	static final byte END_OF_DATA = 0;
+	static final byte GAME_STARTED = 1;
+	static final byte ROLL = 2;
+	static final byte GAME_FINISHED = 3;
+
+	static final int HEADER_SIZE = 1 + 8;
+	static final int CRC_SIZE = 4;
+	static final int ROLL_SIZE = HEADER_SIZE + 3 + CRC_SIZE;
+	static final int GAME_FINISHED_SIZE = HEADER_SIZE + CRC_SIZE;
+	static final int MAX_RECORD_SIZE = HEADER_SIZE + 2 + Short.MAX_VALUE + CRC_SIZE;
+	private static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+	private static final int DEFAULT_GROUP_SIZE = 256;
+
+	private final FileChannel channel;
+	private final int segmentSize;
+	private final int groupSize;
+	private final CRC32 crc = new CRC32();
+	private MappedByteBuffer segment;
+	private long segmentStart;
+	private int uncommitted;
+
+	private RollJournal(FileChannel channel, long position, int segmentSize, int groupSize) throws IOException {
+		this.channel = channel;
+		this.segmentSize = segmentSize;
+		this.groupSize = groupSize;
+		map(position);
+	}
+
+	/**
+	 * Opens the journal for appending, creating the file if needed. New records are appended after the existing ones.
+	 *
+	 * @param file The journal file.
+	 * @return The journal ready for appending.
+	 * @throws IOException if the file can not be opened or mapped.
+	 */
+	public static RollJournal open(Path file) throws IOException {
+		return open(file, DEFAULT_SEGMENT_SIZE, DEFAULT_GROUP_SIZE);
+	}
+
+	/**
+	 * Opens the journal for appending with the given tuning.
+	 *
+	 * @param file The journal file.
+	 * @param segmentSize The size of the mapped region; the file grows by this size.
+	 * @param groupSize The count of records after which the journal is forced to the storage.
+	 * @return The journal ready for appending.
+	 * @throws IOException if the file can not be opened or mapped.
+	 */
+	public static RollJournal open(Path file, int segmentSize, int groupSize) throws IOException {
+		FileChannel channel = FileChannel.open(file,
+				StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			long end = JournalReader.findEnd(channel);
+			return new RollJournal(channel, end, segmentSize, groupSize);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Rebuilds the games recorded in the journal by replaying the rolls through {@link Game#roll(int)}. Finished games
+	 * which were {@link #gameFinished(long) removed} are not returned. The records from the first torn one on are
+	 * ignored.
+	 *
+	 * @param file The journal file.
+	 * @return The games keyed by their identifiers, in the order of their start.
+	 * @throws IOException if the file can not be read.
+	 * @throws IllegalStateException if the journal is inconsistent.
+	 */
+	public static Map<Long, Game> recover(Path file) throws IOException {
+		Map<Long, Game> games = new LinkedHashMap<>();
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			JournalReader.replay(channel, games);
+		}
+		return games;
+	}
+
+	/**
+	 * Records the start of a game.
+	 *
+	 * @param gameId The identifier of the game.
+	 * @param game The new game, before any roll.
+	 * @throws IllegalArgumentException if the encoded game is larger than a record may be.
+	 */
+	public void gameStarted(long gameId, Game game) throws IOException {
+		MappedByteBuffer pending;
+		synchronized (this) {
+			int size = GameCodec.encodedSize(game);
+			if (HEADER_SIZE + 2 + size + CRC_SIZE > MAX_RECORD_SIZE) {
+				throw new IllegalArgumentException("Game is too large for a journal record");
+			}
+			ByteBuffer record = reserve(HEADER_SIZE + 2 + size + CRC_SIZE);
+			int start = record.position();
+
+			try {
+				record.position(start + 1);
+				record.putLong(gameId);
+				record.putShort((short) size);
+				GameCodec.encode(game, record);
+			} catch (RuntimeException e) {
+				record.position(start);
+				throw e;
+			}
+			pending = publish(record, start, GAME_STARTED);
+		}
+		force(pending);
+	}
+
+	/**
+	 * Registers the roll in the game and records it in the journal. Nothing is recorded if the game rejects the roll
+	 * or is already over, and the roll is not registered if the journal can not make room for it.
+	 *
+	 * @param gameId The identifier of the game.
+	 * @param game The game.
+	 * @param pins The count of pins hit by this throw.
+	 */
+	public void roll(long gameId, Game game, int pins) throws IOException {
+		MappedByteBuffer pending;
+		synchronized (this) {
+			if (!game.isGameActive()) {
+				return;
+			}
+
+			int player = game.getNextPlayer();
+			int frame = game.getCurrentFrame();
+			ByteBuffer record = reserve(ROLL_SIZE);
+			int start = record.position();
+			game.roll(pins);
+
+			record.position(start + 1);
+			record.putLong(gameId);
+			record.put((byte) player);
+			record.put((byte) frame);
+			record.put((byte) pins);
+			pending = publish(record, start, ROLL);
+		}
+		force(pending);
+	}
+
+	/**
+	 * Records that the game is over and does not need to be recovered.
+	 *
+	 * @param gameId The identifier of the game.
+	 */
+	public void gameFinished(long gameId) throws IOException {
+		MappedByteBuffer pending;
+		synchronized (this) {
+			ByteBuffer record = reserve(GAME_FINISHED_SIZE);
+			int start = record.position();
+
+			record.position(start + 1);
+			record.putLong(gameId);
+			pending = publish(record, start, GAME_FINISHED);
+		}
+		force(pending);
+	}
+
+	/**
+	 * Forces all the appended records to the storage.
+	 */
+	public synchronized void commit() {
+		segment.force();
+		uncommitted = 0;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		commit();
+		channel.close();
+	}
+
+	private ByteBuffer reserve(int size) throws IOException {
+		if (size > segmentSize) {
+			throw new IllegalArgumentException("Record does not fit into a segment");
+		}
+		if (segment.remaining() < size) {
+			commit();
+			map(segmentStart + segment.position());
+		}
+		return segment;
+	}
+
+	/**
+	 * Completes the record with its checksum and makes it visible by writing its type. Returns the segment to force
+	 * outside of the lock if the record completes a group, or {@code null}.
+	 */
+	private MappedByteBuffer publish(ByteBuffer record, int start, byte type) {
+		record.putInt(checksum(crc, type, record, start + 1, record.position()));
+		record.put(start, type);
+		if (++uncommitted < groupSize) {
+			return null;
+		}
+		uncommitted = 0;
+		return segment;
+	}
+
+	private static void force(MappedByteBuffer pending) {
+		if (pending != null) {
+			pending.force();
+		}
+	}
+
+	/**
+	 * Returns the CRC-32 of the type and the bytes of the record following it, up to the checksum.
+	 */
+	static int checksum(CRC32 crc, byte type, ByteBuffer record, int from, int to) {
+		crc.reset();
+		crc.update(type);
+		for (int i = from; i < to; i++) {
+			crc.update(record.get(i));
+		}
+		return (int) crc.getValue();
+	}
+
+	private void map(long position) throws IOException {
+		segmentStart = position;
+		segment = channel.map(FileChannel.MapMode.READ_WRITE, position, segmentSize);
+	}
+}
@@ -0,0 +1,125 @@
+package leobro.bowling.simulation;
+
+import leobro.bowling.Game;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * The skill of a bowler given as the distributions of the count of pins hit by a roll. One distribution is for
+ * a fresh rack of ten pins, and one for every count of pins left standing after the first roll in the frame.
+ * The profile is immutable, so one profile may be shared by any count of threads.
+ */
+public final class BowlerProfile {
+
+	private static final int PINS = 10;
+
+	private final double[] freshRack;
+	private final double[][] partialRack;
+
+	private BowlerProfile(double[] freshRack, double[][] partialRack) {
+		this.freshRack = freshRack;
+		this.partialRack = partialRack;
+	}
+
+	/**
+	 * Creates the profile from the relative weights of the pin counts.
+	 *
+	 * @param freshRackWeights The eleven weights of hitting from 0 to 10 pins of a fresh rack.
+	 * @param partialRackWeights The weights for every count of pins left standing: the element with index
+	 *                           {@code standing} from 1 to 10 contains {@code standing + 1} weights of hitting from 0
+	 *                           to {@code standing} pins. The element with index zero is ignored.
+	 * @return The profile.
+	 * @throws IllegalArgumentException if the weights are not of the described size, a weight is negative, or all
+	 * weights of a distribution are zero.
+	 */
+	public static BowlerProfile of(double[] freshRackWeights, double[][] partialRackWeights) {
+		if (partialRackWeights.length != PINS + 1) {
+			throw new IllegalArgumentException("Partial rack weights are needed for 1 to 10 pins standing");
+		}
+
+		double[][] partialRack = new double[PINS + 1][];
+		for (int standing = 1; standing <= PINS; standing++) {
+			partialRack[standing] = cumulative(partialRackWeights[standing], standing);
+		}
+		return new BowlerProfile(cumulative(freshRackWeights, PINS), partialRack);
+	}
+
+	/**
+	 * Creates the profile of a bowler who converts a spare with the given probability and otherwise hits any count
+	 * of the standing pins with equal probability.
+	 *
+	 * @param freshRackWeights The eleven weights of hitting from 0 to 10 pins of a fresh rack.
+	 * @param spareRate The probability from 0 to 1 of hitting all the pins left standing.
+	 * @return The profile.
+	 */
+	public static BowlerProfile withSpareRate(double[] freshRackWeights, double spareRate) {
+		if (!(spareRate >= 0 && spareRate <= 1)) {
+			throw new IllegalArgumentException("Spare rate must be between 0 and 1");
+		}
+
+		double[][] partialRackWeights = new double[PINS + 1][];
+		for (int standing = 1; standing <= PINS; standing++) {
+			partialRackWeights[standing] = new double[standing + 1];
+			Arrays.fill(partialRackWeights[standing], 0, standing, (1 - spareRate) / standing);
+			partialRackWeights[standing][standing] = spareRate;
+		}
+		return of(freshRackWeights, partialRackWeights);
+	}
+
+	/**
+	 * Creates the profile hitting any count of the standing pins with equal probability.
+	 *
+	 * @return The profile.
+	 */
+	public static BowlerProfile uniform() {
+		double[] freshRackWeights = new double[PINS + 1];
+		Arrays.fill(freshRackWeights, 1);
+		return withSpareRate(freshRackWeights, 0.5);
+	}
+
+	/**
+	 * Draws the count of pins hit by the next roll of the game.
+	 *
+	 * @param game The active game.
+	 * @param random The source of randomness, owned by the calling thread.
+	 * @return The count of pins, legal for the next roll of the game.
+	 */
+	public int nextRoll(Game game, SplittableRandom random) {
+		int standing = game.getPinsStanding();
+		double[] distribution = game.isRackFresh() ? freshRack : partialRack[standing];
+
+		double value = random.nextDouble();
+		int pins = 0;
+		while (pins < standing && value >= distribution[pins]) {
+			pins++;
+		}
+		return pins;
+	}
+
+	private static double[] cumulative(double[] weights, int maxPins) {
+		if (weights == null || weights.length != maxPins + 1) {
+			throw new IllegalArgumentException("Expected " + (maxPins + 1) + " weights for " + maxPins + " pins");
+		}
+
+		double total = 0;
+		for (double weight : weights) {
+			if (!(weight >= 0) || Double.isInfinite(weight)) {
+				throw new IllegalArgumentException("Weights must be finite and not negative");
+			}
+			total += weight;
+		}
+		if (total == 0) {
+			throw new IllegalArgumentException("At least one weight must be positive");
+		}
+
+		double[] distribution = new double[weights.length];
+		double sum = 0;
+		for (int i = 0; i < weights.length; i++) {
+			sum += weights[i];
+			distribution[i] = sum / total;
+		}
+		distribution[maxPins] = 1;
+		return distribution;
+	}
+}
@@ -0,0 +1,87 @@
+package leobro.bowling.simulation;
+
+import leobro.bowling.GameSpace;
+
+/**
+ * The distribution of the final scores of simulated games. Immutable.
+ */
+public final class ScoreHistogram {
+
+	private final long[] counts;
+	private final long gameCount;
+
+	ScoreHistogram(long[] counts) {
+		this.counts = counts;
+		long total = 0;
+		for (long count : counts) {
+			total += count;
+		}
+		gameCount = total;
+	}
+
+	/**
+	 * Returns the count of simulated games.
+	 */
+	public long getGameCount() {
+		return gameCount;
+	}
+
+	/**
+	 * Returns the count of games ending with the given score.
+	 *
+	 * @param score The score from 0 to 300.
+	 * @return The count of games.
+	 */
+	public long getCount(int score) {
+		return counts[score];
+	}
+
+	/**
+	 * Returns the counts of games for every score.
+	 *
+	 * @return The array where the element with index {@code score} is the count of games ending with that score.
+	 */
+	public long[] toArray() {
+		return counts.clone();
+	}
+
+	/**
+	 * Returns the average score of the games.
+	 *
+	 * @return The mean score, or zero if no games were simulated.
+	 */
+	public double getMean() {
+		if (gameCount == 0) {
+			return 0;
+		}
+
+		double sum = 0;
+		for (int score = 0; score <= GameSpace.MAX_SCORE; score++) {
+			sum += (double) score * counts[score];
+		}
+		return sum / gameCount;
+	}
+
+	/**
+	 * Returns the lowest score such that at least the given share of games end with that score or less, e.g. the median
+	 * for 50.
+	 *
+	 * @param percentile The share of games from 0 to 100.
+	 * @return The score, or zero if no games were simulated.
+	 */
+	public int getPercentile(double percentile) {
+		if (percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException("Percentile must be between 0 and 100");
+		}
+
+		double rank = gameCount * percentile / 100;
+		long seen = 0;
+		for (int score = 0; score < GameSpace.MAX_SCORE; score++) {
+			seen += counts[score];
+			if (seen >= rank && seen > 0) {
+				return score;
+			}
+		}
+		return gameCount == 0 ? 0 : GameSpace.MAX_SCORE;
+	}
+}
@@ -0,0 +1,101 @@
+package leobro.bowling.simulation;
+
+import leobro.bowling.Game;
+import leobro.bowling.GameSpace;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Simulates games of one bowler drawing the rolls from a {@link BowlerProfile}. The games are split into fork-join
+ * tasks, and every task splits its own {@link SplittableRandom} for the subtasks, so the tasks share no mutable state
+ * and the result for the same seed does not depend on the count of threads. A task plays all its games in one
+ * {@link Game}, which is {@link Game#reset() reset} after every game instead of being created again.
+ */
+public final class Simulation {
+
+	private static final int GAMES_PER_TASK = 4096;
+	private static final List<String> PLAYER = Collections.singletonList("Bowler");
+
+	private Simulation() {
+	}
+
+	/**
+	 * Simulates the games using the common fork-join pool.
+	 *
+	 * @param profile The skill of the bowler.
+	 * @param games The count of games to simulate.
+	 * @param seed The seed of the random rolls. The same seed gives the same histogram.
+	 * @return The distribution of the final scores.
+	 */
+	public static ScoreHistogram run(BowlerProfile profile, long games, long seed) {
+		return run(profile, games, seed, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Simulates the games using the given fork-join pool.
+	 *
+	 * @param profile The skill of the bowler.
+	 * @param games The count of games to simulate.
+	 * @param seed The seed of the random rolls. The same seed gives the same histogram.
+	 * @param pool The pool to run the games.
+	 * @return The distribution of the final scores.
+	 */
+	public static ScoreHistogram run(BowlerProfile profile, long games, long seed, ForkJoinPool pool) {
+		if (games < 0) {
+			throw new IllegalArgumentException("Count of games must not be negative");
+		}
+		return new ScoreHistogram(pool.invoke(new SimulationTask(profile, games, new SplittableRandom(seed))));
+	}
+
+	private static class SimulationTask extends RecursiveTask<long[]> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final BowlerProfile profile;
+		private final long games;
+		private final SplittableRandom random;
+
+		SimulationTask(BowlerProfile profile, long games, SplittableRandom random) {
+			this.profile = profile;
+			this.games = games;
+			this.random = random;
+		}
+
+		@Override
+		protected long[] compute() {
+			if (games <= GAMES_PER_TASK) {
+				return play();
+			}
+
+			long half = games / 2;
+			SimulationTask left = new SimulationTask(profile, half, random.split());
+			left.fork();
+			long[] counts = new SimulationTask(profile, games - half, random).compute();
+			long[] leftCounts = left.join();
+			for (int score = 0; score < counts.length; score++) {
+				counts[score] += leftCounts[score];
+			}
+			return counts;
+		}
+
+		private long[] play() {
+			long[] counts = new long[GameSpace.MAX_SCORE + 1];
+			Game game = new Game(PLAYER);
+
+			for (long i = 0; i < games; i++) {
+				if (i > 0) {
+					game.reset();
+				}
+				while (game.isGameActive()) {
+					game.roll(profile.nextRoll(game, random));
+				}
+				counts[game.getPlayerScore(0)]++;
+			}
+			return counts;
+		}
+	}
+}
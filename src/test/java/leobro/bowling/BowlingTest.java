@@ -184,6 +184,70 @@ public class BowlingTest {
         assertEquals(35, frame.getAccumulatedScore());
     }
 
+    @Test
+    public void canAccumulateScoreOfPendingStrikes() {
+        throwSeries(onePlayerGame, 10, 10, 10, 3, 4);
+		Frame[] frames = onePlayerGame.getPlayerResultsTable(0);
+
+        assertEquals(30, frames[0].getAccumulatedScore());
+        assertEquals(53, frames[1].getAccumulatedScore());
+        assertEquals(70, frames[2].getAccumulatedScore());
+        assertEquals(77, frames[3].getAccumulatedScore());
+        assertEquals(77, frames[4].getAccumulatedScore());
+        assertEquals(77, onePlayerGame.getPlayerScore(0));
+    }
+
+    @Test
+    public void canAccumulateScoreReadBetweenRolls() {
+        Frame[] frames = onePlayerGame.getPlayerResultsTable(0);
+
+        throwSeries(onePlayerGame, 10);
+        assertEquals(10, frames[0].getAccumulatedScore());
+        throwSeries(onePlayerGame, 10, 10, 3);
+        assertEquals(69, frames[3].getAccumulatedScore());
+        assertEquals(69, frames[4].getAccumulatedScore());
+        throwSeries(onePlayerGame, 4);
+
+        assertEquals(30, frames[0].getAccumulatedScore());
+        assertEquals(53, frames[1].getAccumulatedScore());
+        assertEquals(70, frames[2].getAccumulatedScore());
+        assertEquals(77, frames[3].getAccumulatedScore());
+    }
+
+    @Test
+    public void copiesAccumulateTheirOwnScores() {
+        throwSeries(onePlayerGame, 10, 10, 3);
+        Game copy = onePlayerGame.copy();
+
+        onePlayerGame.roll(4);
+        copy.roll(7);
+
+        Frame[] frames = onePlayerGame.getPlayerResultsTable(0);
+        assertEquals(23, frames[0].getAccumulatedScore());
+        assertEquals(40, frames[1].getAccumulatedScore());
+        assertEquals(47, frames[2].getAccumulatedScore());
+        Frame[] copyFrames = copy.getPlayerResultsTable(0);
+        assertEquals(23, copyFrames[0].getAccumulatedScore());
+        assertEquals(43, copyFrames[1].getAccumulatedScore());
+        assertEquals(53, copyFrames[2].getAccumulatedScore());
+    }
+
+    @Test
+    public void framesWithSameResultsShareDisplaySlots() {
+        throwSeries(onePlayerGame, 3, 5, 3, 5);
+		Frame[] frames = onePlayerGame.getPlayerResultsTable(0);
+
+		assertSame(frames[0].getDisplaySlots(), frames[1].getDisplaySlots());
+		assertSame(frames[2].getDisplaySlots(), frames[3].getDisplaySlots());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void displaySlotsCanNotBeModified() {
+        onePlayerGame.roll(3);
+
+        onePlayerGame.getPlayerResultsTable(0)[0].getDisplaySlots().set(0, "X");
+    }
+
     @Test
     public void canShowPlayerTableWithTenthFrame() {
         playNineGutterFrames(onePlayerGame);
@@ -208,6 +272,17 @@ public class BowlingTest {
         assertEquals(30, frame.getAccumulatedScore());
     }
 
+    @Test
+    public void canShowPlayerTableWithTenthFrameStrikeInProgress() {
+        playNineGutterFrames(onePlayerGame);
+        onePlayerGame.roll(10);
+		Frame[] frames = onePlayerGame.getPlayerResultsTable(0);
+		Frame frame = frames[9];
+
+		assertThat(frame.getDisplaySlots(), is(equalTo(Arrays.asList("X", ""))));
+        assertEquals(10, frame.getScore());
+    }
+
     @Test
     public void canShowWinner() {
         playNineGutterFrames(twoPlayerGame);
@@ -217,6 +292,81 @@ public class BowlingTest {
         assertEquals(1, twoPlayerGame.getWinner());
     }
 
+    @Test
+    public void canRegisterBatchOfRolls() {
+        int[] rolls = {0, 1, 4, 6, 4, 10, 3};
+
+        assertEquals(5, twoPlayerGame.rollAll(rolls, 1, 5));
+        assertEquals(15, twoPlayerGame.getPlayerScore(0));
+        assertEquals(10, twoPlayerGame.getPlayerScore(1));
+        assertEquals(1, twoPlayerGame.getNextPlayer());
+        assertEquals(1, twoPlayerGame.getCurrentFrame());
+    }
+
+    @Test
+    public void batchStopsAtInvalidRoll() {
+        int[] rolls = {1, 4, 6, 5, 3};
+
+        assertEquals(3, onePlayerGame.rollAll(rolls, 0, rolls.length));
+        assertEquals(11, onePlayerGame.getPlayerScore(0));
+
+        onePlayerGame.roll(4);
+        assertEquals(15, onePlayerGame.getPlayerScore(0));
+    }
+
+    @Test
+    public void batchStopsAtTheEndOfGame() {
+        int[] rolls = new int[15];
+        Arrays.fill(rolls, 10);
+
+        assertEquals(12, onePlayerGame.rollAll(rolls, 0, rolls.length));
+        assertFalse(onePlayerGame.isGameActive());
+        assertEquals(300, onePlayerGame.getPlayerScore(0));
+    }
+
+    @Test
+    public void batchStopsAtInvalidBonusRollInTenthFrame() {
+        playNineGutterFrames(onePlayerGame);
+        int[] rolls = {10, 7, 4};
+
+        assertEquals(2, onePlayerGame.rollAll(rolls, 0, rolls.length));
+        assertTrue(onePlayerGame.isGameActive());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void batchBeyondArrayEndIsRejectedWithoutOverflow() {
+        onePlayerGame.rollAll(new int[3], 1, Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void snapshotKeepsStateOfItsMoment() {
+        twoPlayerGame.enableSnapshots();
+        throwSeries(twoPlayerGame, 6, 4);
+        GameSnapshot snapshot = twoPlayerGame.getSnapshot();
+
+        throwSeries(twoPlayerGame, 3, 5, 10);
+
+        assertEquals(10, snapshot.getPlayerScore(0));
+        assertEquals(0, snapshot.getPlayerScore(1));
+        assertEquals(1, snapshot.getNextPlayer());
+        assertThat(snapshot.getDisplaySlots(0, 0), is(equalTo(Arrays.asList("6", "/"))));
+        assertThat(snapshot.getDisplaySlots(0, 1), is(equalTo(Arrays.asList("", ""))));
+
+        GameSnapshot latest = twoPlayerGame.getSnapshot();
+        assertEquals(30, latest.getPlayerScore(0));
+        assertEquals(20, latest.getAccumulatedScore(0, 0));
+        assertEquals(8, latest.getPlayerScore(1));
+        assertEquals(1, latest.getNextPlayer());
+        assertEquals(1, latest.getCurrentFrame());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void snapshotsAreNotPublishedUnlessEnabled() {
+        onePlayerGame.roll(1);
+
+        onePlayerGame.getSnapshot();
+    }
+
     @Test(expected = InvalidParameterException.class)
     public void negativeRollsAreNotAccepted() {
         onePlayerGame.roll(-1);
@@ -227,4 +377,94 @@ public class BowlingTest {
         onePlayerGame.roll(6);
         onePlayerGame.roll(5);
     }
+
+    @Test
+    public void resetStartsTheGameAgain() {
+        throwSeries(twoPlayerGame, 10, 3, 4, 10);
+
+        twoPlayerGame.reset();
+
+        assertTrue(twoPlayerGame.isGameActive());
+        assertEquals(0, twoPlayerGame.getNextPlayer());
+        assertEquals(0, twoPlayerGame.getCurrentFrame());
+        assertEquals(0, twoPlayerGame.getPlayerScore(0));
+        assertThat(twoPlayerGame.getPlayerResultsTable(0)[0].getDisplaySlots(), is(equalTo(Arrays.asList("", ""))));
+        throwSeries(twoPlayerGame, 6, 4, 2, 2, 1);
+        assertEquals(12, twoPlayerGame.getPlayerScore(0));
+    }
+
+    @Test
+    public void resetDoesNotAffectCopies() {
+        throwSeries(onePlayerGame, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10);
+        Game copy = onePlayerGame.copy();
+
+        onePlayerGame.reset();
+        onePlayerGame.roll(5);
+
+        assertEquals(300, copy.getPlayerScore(0));
+        assertEquals(300, copy.getPlayerResultsTable(0)[9].getAccumulatedScore());
+        assertEquals(5, onePlayerGame.getPlayerScore(0));
+    }
+
+    @Test
+    public void pinsStandingForTheNextRoll() {
+        assertEquals(10, onePlayerGame.getPinsStanding());
+        assertTrue(onePlayerGame.isRackFresh());
+        onePlayerGame.roll(0);
+        assertEquals(10, onePlayerGame.getPinsStanding());
+        assertFalse(onePlayerGame.isRackFresh());
+        onePlayerGame.roll(3);
+        assertTrue(onePlayerGame.isRackFresh());
+    }
+
+    @Test
+    public void tryRollReportsTheReasonOfRejection() {
+        assertThat(onePlayerGame.tryRoll(-1), is(RollResult.NEGATIVE_PINS));
+        assertThat(onePlayerGame.tryRoll(11), is(RollResult.TOO_MANY_PINS));
+        assertThat(onePlayerGame.tryRoll(6), is(RollResult.ACCEPTED));
+        assertThat(onePlayerGame.tryRoll(5), is(RollResult.TOO_MANY_PINS_IN_FRAME));
+        assertThat(onePlayerGame.tryRoll(4), is(RollResult.ACCEPTED));
+        assertEquals(10, onePlayerGame.getPlayerScore(0));
+
+        throwSeries(onePlayerGame, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+        assertThat(onePlayerGame.tryRoll(0), is(RollResult.GAME_OVER));
+    }
+
+    @Test
+    public void tenthFrameDoesNotAcceptMorePinsThanStanding() {
+        throwSeries(onePlayerGame, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 10, 3);
+
+        try {
+            onePlayerGame.roll(8);
+            fail();
+        } catch (RollRejectedException e) {
+            assertThat(e.getResult(), is(RollResult.TOO_MANY_PINS_IN_FRAME));
+        }
+        onePlayerGame.roll(7);
+        assertEquals(20, onePlayerGame.getPlayerScore(0));
+        assertFalse(onePlayerGame.isGameActive());
+    }
+
+    @Test
+    public void stacklessRejectionsAreNotShared() {
+        onePlayerGame.setStacklessRejections(true);
+        RollRejectedException first = null;
+        RollRejectedException second = null;
+        try {
+            onePlayerGame.roll(-1);
+        } catch (RollRejectedException e) {
+            first = e;
+        }
+        try {
+            onePlayerGame.roll(-2);
+        } catch (RollRejectedException e) {
+            second = e;
+        }
+
+        assertNotSame(first, second);
+        first.addSuppressed(new IllegalStateException());
+        assertEquals(0, second.getSuppressed().length);
+        assertThat(first.getMessage(), is("Negative pins are not accepted"));
+        assertEquals(0, first.getStackTrace().length);
+    }
 }
@@ -0,0 +1,82 @@
+package leobro.bowling;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+
+public class GameCodecTest {
+
+	private static Game play(Game game, int... series) {
+		for (int pins : series) {
+			game.roll(pins);
+		}
+		return game;
+	}
+
+	private static Game roundTrip(Game game) {
+		ByteBuffer buffer = ByteBuffer.allocate(GameCodec.encodedSize(game));
+		GameCodec.encode(game, buffer);
+		assertFalse(buffer.hasRemaining());
+
+		buffer.flip();
+		return GameCodec.decode(buffer);
+	}
+
+	@Test
+	public void canRestoreGameInProgress() {
+		Game game = play(new Game(Arrays.asList("First", "S\u00e9cond", "\u0422\u0440\u0435\u0442\u0438\u0439 \uD83C\uDFB3")),
+				1, 4, 10, 6, 4,
+				7);
+
+		Game restored = roundTrip(game);
+
+		assertThat(restored.getPlayers(), is(equalTo(game.getPlayers())));
+		assertEquals(0, restored.getNextPlayer());
+		assertEquals(1, restored.getCurrentFrame());
+		for (int i = 0; i < 3; i++) {
+			assertEquals(game.getPlayerScore(i), restored.getPlayerScore(i));
+		}
+		assertThat(restored.getPlayerResultsTable(0)[1].getDisplaySlots(), is(equalTo(Arrays.asList("7", ""))));
+	}
+
+	@Test
+	public void canRestoreFinishedGame() {
+		Game game = play(new Game(Arrays.asList("Player")), 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10);
+
+		Game restored = roundTrip(game);
+
+		assertFalse(restored.isGameActive());
+		assertEquals(300, restored.getPlayerScore(0));
+		assertEquals(1 + 1 + 2 + 6 + 1 + 6, GameCodec.encodedSize(game));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void truncatedGameIsRejected() {
+		ByteBuffer buffer = ByteBuffer.allocate(64);
+		GameCodec.encode(play(new Game(Arrays.asList("Player")), 3, 4, 5), buffer);
+		buffer.flip();
+		buffer.limit(buffer.limit() - 1);
+
+		GameCodec.decode(buffer);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void gameWithoutPlayersIsRejected() {
+		GameCodec.decode(ByteBuffer.wrap(new byte[] {1, 0}));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rollAboveTheCountOfPinsIsRejected() {
+		GameCodec.decode(ByteBuffer.wrap(new byte[] {1, 1, 0, 1, 'A', 2, (byte) 0x3B}));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rollsBreakingTheFrameAreRejected() {
+		GameCodec.decode(ByteBuffer.wrap(new byte[] {1, 1, 0, 1, 'A', 2, (byte) 0x77}));
+	}
+}
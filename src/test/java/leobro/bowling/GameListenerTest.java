@@ -0,0 +1,254 @@
+package leobro.bowling;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+
+public class GameListenerTest {
+
+	private static class Recorder implements GameListener {
+
+		final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public void strike(Game game, int playerIndex, int frameIndex) {
+			events.add("strike " + playerIndex + " " + frameIndex);
+		}
+
+		@Override
+		public void spare(Game game, int playerIndex, int frameIndex) {
+			events.add("spare " + playerIndex + " " + frameIndex);
+		}
+
+		@Override
+		public void bonusResolved(Game game, int playerIndex, int frameIndex, int frameScore) {
+			events.add("bonus " + playerIndex + " " + frameIndex + " " + frameScore);
+		}
+
+		@Override
+		public void frameCompleted(Game game, int playerIndex, int frameIndex) {
+			events.add("frame " + playerIndex + " " + frameIndex);
+		}
+
+		@Override
+		public void scoreUpdated(Game game, int playerIndex, int score) {
+			events.add("score " + playerIndex + " " + score);
+		}
+
+		@Override
+		public void gameOver(Game game) {
+			events.add("over");
+		}
+	}
+
+	private static void throwSeries(Game game, int... series) {
+		for (int pins : series) {
+			game.roll(pins);
+		}
+	}
+
+	@Test
+	public void reportsStrikesSparesAndBonuses() {
+		Game game = new Game(Arrays.asList("First", "Second"));
+		Recorder recorder = new Recorder();
+		game.addListener(recorder);
+
+		throwSeries(game, 10, 0, 10, 3);
+
+		assertThat(recorder.events, is(equalTo(Arrays.asList(
+				"strike 0 0", "frame 0 0", "score 0 10",
+				"spare 1 0", "frame 1 0", "score 1 10",
+				"score 0 16"))));
+
+		recorder.events.clear();
+		game.roll(4);
+
+		assertThat(recorder.events, is(equalTo(Arrays.asList("bonus 0 0 17", "frame 0 1", "score 0 24"))));
+	}
+
+	@Test
+	public void reportsTenthFrameStrikesAndGameOver() {
+		Game game = new Game(Collections.singletonList("Player"));
+		for (int i = 0; i < 18; i++) {
+			game.roll(0);
+		}
+		Recorder recorder = new Recorder();
+		game.addListener(recorder);
+
+		throwSeries(game, 10, 0, 10);
+
+		assertThat(recorder.events, is(equalTo(Arrays.asList(
+				"strike 0 9", "score 0 10",
+				"spare 0 9", "frame 0 9", "score 0 20", "over"))));
+	}
+
+	@Test
+	public void removedListenerIsNotCalled() {
+		Game game = new Game(Collections.singletonList("Player"));
+		Recorder recorder = new Recorder();
+		game.addListener(recorder);
+		game.removeListener(recorder);
+
+		game.roll(10);
+
+		assertTrue(recorder.events.isEmpty());
+	}
+
+	@Test
+	public void failingListenerDoesNotFailRoll() {
+		Game game = new Game(Collections.singletonList("Player"));
+		GameListener failing = new GameListener() {
+			@Override
+			public void rollRegistered(Game game, int playerIndex, int frameIndex, int pins) {
+				throw new IllegalStateException("Listener failure");
+			}
+		};
+		Recorder recorder = new Recorder();
+		game.addListener(failing);
+		game.addListener(recorder);
+		List<Throwable> reported = new ArrayList<>();
+		Thread.UncaughtExceptionHandler handler = Thread.currentThread().getUncaughtExceptionHandler();
+		Thread.currentThread().setUncaughtExceptionHandler((thread, e) -> reported.add(e));
+
+		try {
+			game.roll(10);
+		} finally {
+			Thread.currentThread().setUncaughtExceptionHandler(handler);
+		}
+
+		assertThat(reported.size(), is(1));
+		assertThat(game.getPlayerScore(0), is(10));
+		assertThat(game.getCurrentFrame(), is(1));
+		assertThat(recorder.events, is(equalTo(Arrays.asList("strike 0 0", "frame 0 0", "score 0 10"))));
+	}
+
+	@Test
+	public void asyncListenerReceivesGameInStateOfEvent() {
+		CountDownLatch release = new CountDownLatch(1);
+		List<Integer> scores = Collections.synchronizedList(new ArrayList<>());
+		GameListener slow = new GameListener() {
+			@Override
+			public void rollRegistered(Game game, int playerIndex, int frameIndex, int pins) {
+				try {
+					release.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				scores.add(game.getPlayerScore(playerIndex));
+			}
+		};
+		Game game = new Game(Collections.singletonList("Player"));
+
+		try (AsyncGameListener async = new AsyncGameListener(slow, 64)) {
+			game.addListener(async);
+			throwSeries(game, 1, 2, 3, 4);
+			release.countDown();
+		}
+
+		assertThat(scores, is(equalTo(Arrays.asList(1, 3, 6, 10))));
+	}
+
+	@Test
+	public void asyncListenerDeliversEventsInOrder() throws Exception {
+		Game game = new Game(Collections.singletonList("Player"));
+		Recorder recorder = new Recorder();
+		try (AsyncGameListener async = new AsyncGameListener(recorder, 64)) {
+			game.addListener(async);
+			throwSeries(game, 10, 3, 4);
+		}
+
+		assertThat(recorder.events, is(equalTo(Arrays.asList(
+				"strike 0 0", "frame 0 0", "score 0 10",
+				"score 0 16",
+				"bonus 0 0 17", "frame 0 1", "score 0 24"))));
+	}
+
+	@Test
+	public void asyncListenerReportsFailuresAndGoesOn() {
+		Game game = new Game(Collections.singletonList("Player"));
+		Recorder recorder = new Recorder() {
+			@Override
+			public void strike(Game game, int playerIndex, int frameIndex) {
+				throw new IllegalStateException("Listener failure");
+			}
+		};
+		List<Throwable> reported = Collections.synchronizedList(new ArrayList<>());
+		Thread.UncaughtExceptionHandler handler = Thread.getDefaultUncaughtExceptionHandler();
+		Thread.setDefaultUncaughtExceptionHandler((thread, e) -> reported.add(e));
+
+		try (AsyncGameListener async = new AsyncGameListener(recorder, 64)) {
+			game.addListener(async);
+			throwSeries(game, 10, 3);
+			async.close();
+
+			assertThat(async.getFailedEvents(), is(1L));
+		} finally {
+			Thread.setDefaultUncaughtExceptionHandler(handler);
+		}
+
+		assertThat(reported.size(), is(1));
+		assertThat(recorder.events, is(equalTo(Arrays.asList("frame 0 0", "score 0 10", "score 0 16"))));
+	}
+
+	@Test
+	public void asyncListenerDropsEventsWhenFull() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		GameListener slow = new GameListener() {
+			@Override
+			public void rollRegistered(Game game, int playerIndex, int frameIndex, int pins) {
+				try {
+					release.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		};
+		Game game = new Game(Collections.singletonList("Player"));
+
+		try (AsyncGameListener async = new AsyncGameListener(slow, 4)) {
+			game.addListener(async);
+			throwSeries(game, 1, 1, 1, 1, 1, 1, 1, 1);
+
+			assertTrue(async.getDroppedEvents() > 0);
+			release.countDown();
+		}
+	}
+
+	@Test
+	public void listenersAddedFromManyThreadsAreAllKept() throws Exception {
+		Game game = new Game(Collections.singletonList("Player"));
+		AtomicInteger rolls = new AtomicInteger();
+		GameListener counter = new GameListener() {
+			@Override
+			public void rollRegistered(Game game, int playerIndex, int frameIndex, int pins) {
+				rolls.incrementAndGet();
+			}
+		};
+
+		Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> {
+				for (int j = 0; j < 500; j++) {
+					game.addListener(counter);
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		game.roll(1);
+
+		assertThat(rolls.get(), is(2000));
+	}
+}
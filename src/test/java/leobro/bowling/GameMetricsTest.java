@@ -0,0 +1,128 @@
+package leobro.bowling;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+
+public class GameMetricsTest {
+
+	@After
+	public void uninstallMetrics() {
+		Game.setMetrics(GameMetrics.NONE);
+	}
+
+	@Test
+	public void metricsAreOffByDefault() {
+		assertThat(Game.getMetrics(), is(GameMetrics.NONE));
+		assertFalse(GameMetrics.NONE.isEnabled());
+	}
+
+	@Test
+	public void countsGamesRollsRejectionsAndRenders() {
+		LongAdderMetrics metrics = new LongAdderMetrics();
+
+		Game finished = new Game(Collections.singletonList("A"), RuleSet.TEN_PIN, metrics);
+		for (int i = 0; i < 12; i++) {
+			finished.roll(10);
+		}
+		Game active = new Game(Arrays.asList("A", "B"), RuleSet.TEN_PIN, metrics);
+		active.roll(7);
+		try {
+			active.roll(4);
+			fail();
+		} catch (InvalidParameterException e) {
+			// expected
+		}
+		assertThat(active.rollAll(new int[] {3, 2, 11}, 0, 3), is(2));
+		active.getPlayerResultsTable(0);
+
+		assertThat(metrics.getGamesStarted(), is(2L));
+		assertThat(metrics.getActiveGames(), is(1L));
+		assertThat(metrics.getRollCount(), is(15L));
+		assertThat(metrics.getRejectedRollCount(), is(2L));
+		assertThat(metrics.getScoreboardRenderCount(), is(1L));
+		assertTrue(metrics.getRollLatencyPercentile(99) >= metrics.getRollLatencyPercentile(50));
+		assertTrue(metrics.getRollsPerSecond() > 0);
+	}
+
+	@Test
+	public void latencyPercentilesComeFromBuckets() {
+		LongAdderMetrics metrics = new LongAdderMetrics();
+		assertThat(metrics.getRollLatencyPercentile(50), is(0L));
+
+		for (int i = 0; i < 99; i++) {
+			metrics.rollsRegistered(1, 100);
+		}
+		metrics.rollsRegistered(1, 5000);
+
+		assertThat(metrics.getRollLatencyPercentile(50), equalTo(127L));
+		assertThat(metrics.getRollLatencyPercentile(99), equalTo(127L));
+		assertThat(metrics.getRollLatencyPercentile(100), equalTo(8191L));
+	}
+
+	@Test
+	public void gamesKeepTheMetricsOfTheirCreation() {
+		LongAdderMetrics metrics = new LongAdderMetrics();
+		Game.setMetrics(metrics);
+		Game game = new Game(Collections.singletonList("A"));
+		Game.setMetrics(new LongAdderMetrics());
+
+		game.roll(1);
+		game.copy().roll(2);
+
+		assertThat(metrics.getRollCount(), is(2L));
+	}
+
+	@Test
+	public void unfinishedGamesReusedByPoolAreCountedAgain() {
+		LongAdderMetrics metrics = new LongAdderMetrics();
+		GamePool pool = new GamePool(1, metrics);
+
+		Game game = pool.acquire(Arrays.asList("A"));
+		game.roll(3);
+		pool.release(game);
+		assertThat(metrics.getActiveGames(), is(0L));
+
+		Game reused = pool.acquire(Arrays.asList("B"));
+		assertSame(game, reused);
+		assertThat(metrics.getActiveGames(), is(1L));
+
+		reused.reset();
+		assertThat(metrics.getActiveGames(), is(1L));
+
+		pool.release(reused);
+		pool.release(new Game(Arrays.asList("C"), RuleSet.TEN_PIN, metrics));
+		assertThat(metrics.getActiveGames(), is(0L));
+		assertThat(metrics.getGamesStarted(), is(4L));
+	}
+
+	@Test
+	public void copiesAreNotCountedAsStartedGames() {
+		LongAdderMetrics metrics = new LongAdderMetrics();
+		Game game = new Game(Arrays.asList("A", "B"), RuleSet.TEN_PIN, metrics);
+		game.roll(3);
+		GameReplay replay = new GameReplay(game);
+
+		for (int i = 0; i < 100; i++) {
+			replay.forkAt(1);
+		}
+		Game copy = game.copy();
+		assertThat(metrics.getActiveGames(), is(1L));
+
+		for (int i = 0; i < 39; i++) {
+			copy.roll(0);
+		}
+		assertFalse(copy.isGameActive());
+		assertThat(metrics.getActiveGames(), is(1L));
+
+		copy.reset();
+		assertThat(metrics.getActiveGames(), is(2L));
+	}
+}
@@ -0,0 +1,89 @@
+package leobro.bowling;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.*;
+
+public class GamePoolTest {
+
+	private final GamePool pool = new GamePool(2);
+
+	@Test
+	public void releasedGameIsReusedForTheSameCountOfPlayers() {
+		Game first = pool.acquire(Arrays.asList("A", "B"));
+		first.roll(10);
+		first.addListener(new GameListener() {
+			@Override
+			public void rollRegistered(Game game, int playerIndex, int frameIndex, int pins) {
+				fail();
+			}
+		});
+		pool.release(first);
+
+		Game second = pool.acquire(Arrays.asList("C", "D"));
+		second.roll(3);
+
+		assertThat(second, is(sameInstance(first)));
+		assertThat(second.getPlayers().get(0), is("C"));
+		assertThat(second.getPlayerScore(0), is(3));
+		assertThat(pool.getAcquireCount(), is(2L));
+		assertThat(pool.getHitCount(), is(1L));
+		assertThat(pool.getAllocationCount(), is(1L));
+		assertThat(pool.getHitRate(), is(0.5));
+	}
+
+	@Test
+	public void gameIsNotReusedForAnotherCountOfPlayers() {
+		Game first = pool.acquire(Collections.singletonList("A"));
+		pool.release(first);
+
+		Game second = pool.acquire(Arrays.asList("A", "B"));
+
+		assertThat(second, is(not(sameInstance(first))));
+		assertThat(pool.getIdleCount(), is(1));
+		assertThat(pool.getHitCount(), is(0L));
+	}
+
+	@Test
+	public void gamesBeyondTheCapacityAreDropped() {
+		List<String> names = Collections.singletonList("A");
+		pool.release(pool.acquire(names));
+		pool.release(pool.acquire(names));
+		pool.release(new Game(names));
+		pool.release(new Game(names));
+
+		assertThat(pool.getIdleCount(), is(2));
+	}
+
+	@Test
+	public void resetChangesThePlayers() {
+		Game game = new Game(Arrays.asList("A", "B", "C"));
+		game.roll(10);
+
+		game.reset(Arrays.asList("D", "E"));
+		assertThat(game.getPlayerCount(), is(2));
+		assertThat(game.getPlayers().get(1), is("E"));
+		assertThat(game.getPlayerScore(0), is(0));
+
+		game.reset(Arrays.asList("F", "G", "H", "I"));
+		game.roll(4);
+		game.roll(4);
+		game.roll(0);
+		game.roll(0);
+		game.roll(0);
+		game.roll(0);
+		game.roll(1);
+		assertThat(game.getPlayerCount(), is(4));
+		assertThat(game.getPlayers().get(3), is(equalTo("I")));
+		assertThat(game.getNextPlayer(), is(3));
+		assertThat(game.getPlayerScore(3), is(1));
+	}
+}
@@ -0,0 +1,95 @@
+package leobro.bowling;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+
+public class GameReplayTest {
+
+	private static final int[] ROLLS = {
+			3, 4, 10, 10, 7, 3, 5, 2, 10, 0, 0, 9, 1, 2, 3, 4, 4, 6, 4, 10, 8, 1, 10, 10, 10, 3, 3, 2, 2, 10, 10, 10, 9, 1, 5
+	};
+
+	private static Game play(int... rolls) {
+		Game game = new Game(Arrays.asList("A", "B"));
+		for (int pins : rolls) {
+			game.roll(pins);
+		}
+		return game;
+	}
+
+	private static void assertSameState(Game expected, Game actual) {
+		assertThat(actual.isGameActive(), is(expected.isGameActive()));
+		assertThat(actual.getNextPlayer(), is(expected.getNextPlayer()));
+		assertThat(actual.getCurrentFrame(), is(expected.getCurrentFrame()));
+		for (int player = 0; player < expected.getPlayerCount(); player++) {
+			assertThat(actual.getPlayerScore(player), is(expected.getPlayerScore(player)));
+			Frame[] expectedFrames = expected.getPlayerResultsTable(player);
+			Frame[] actualFrames = actual.getPlayerResultsTable(player);
+			for (int frame = 0; frame < expectedFrames.length; frame++) {
+				assertThat(actualFrames[frame].getDisplaySlots(), is(expectedFrames[frame].getDisplaySlots()));
+				assertThat(actualFrames[frame].getAccumulatedScore(), is(expectedFrames[frame].getAccumulatedScore()));
+			}
+		}
+	}
+
+	@Test
+	public void copyIsIndependentOfTheOriginal() {
+		Game original = play(10, 3, 4, 10);
+		Game copy = original.copy();
+
+		copy.roll(10);
+		copy.roll(2);
+		original.roll(0);
+
+		assertSameState(play(10, 3, 4, 10, 10, 2), copy);
+		assertSameState(play(10, 3, 4, 10, 0), original);
+	}
+
+	@Test
+	public void forkAtEveryPositionMatchesThePlayedRolls() {
+		GameReplay replay = new GameReplay(play(ROLLS), 3);
+		assertThat(replay.getRollCount(), is(ROLLS.length));
+
+		for (int i = 0; i <= ROLLS.length; i++) {
+			assertSameState(play(Arrays.copyOf(ROLLS, i)), replay.forkAt(i));
+		}
+	}
+
+	@Test
+	public void whatIfReplacesTheRollAndTheFollowingOnes() {
+		GameReplay replay = new GameReplay(play(ROLLS));
+
+		Game strike = replay.whatIf(4, 10, 10);
+
+		assertSameState(play(3, 4, 10, 10, 10, 10), strike);
+		assertSameState(play(ROLLS), replay.forkAt(ROLLS.length));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void forkBeyondTheLastRollIsRejected() {
+		new GameReplay(play(ROLLS)).forkAt(ROLLS.length + 1);
+	}
+
+	@Test
+	public void forksMayBeSimulatedInParallel() {
+		Game game = new Game(Collections.singletonList("A"));
+		for (int i = 0; i < 12; i++) {
+			game.roll(10);
+		}
+		GameReplay replay = new GameReplay(game);
+
+		int[] scores = IntStream.range(0, 1000).parallel()
+				.map(i -> replay.whatIf(11, i % 11).getPlayerScore(0))
+				.toArray();
+
+		for (int i = 0; i < scores.length; i++) {
+			assertThat(scores[i], is(290 + i % 11));
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package leobro.bowling;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * Uses the enumerated game space as an oracle for the scores calculated by {@link Game}.
+ */
+public class GameSpaceTest {
+
+	private static GameSpace space;
+
+	@BeforeClass
+	public static void enumerate() {
+		space = GameSpace.enumerate();
+	}
+
+	private static Game play(int... series) {
+		Game game = new Game(Collections.singletonList("Player"));
+		for (int pins : series) {
+			game.roll(pins);
+		}
+		return game;
+	}
+
+	/**
+	 * Scores the roll series by the transitions of the scoring table alone, without a {@link Game}.
+	 */
+	private static int tableScore(int... series) {
+		int state = ScoringTable.START;
+		int score = 0;
+		for (int pins : series) {
+			int transition = ScoringTable.transition(state, pins);
+			assertNotEquals(ScoringTable.INVALID, transition);
+			state = ScoringTable.nextState(transition);
+			score += ScoringTable.scoreDelta(transition);
+		}
+		return score;
+	}
+
+	@Test
+	public void scoringTableAgreesWithKnownScores() {
+		assertEquals(14, tableScore(1, 4, 4, 5));
+		assertEquals(15, tableScore(1, 4, 6, 4));
+		assertEquals(25, tableScore(1, 4, 6, 4, 5));
+		assertEquals(15, tableScore(1, 4, 10));
+		assertEquals(23, tableScore(1, 4, 10, 1, 3));
+		assertEquals(77, tableScore(10, 10, 10, 3, 4));
+		assertEquals(16, tableScore(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 2, 8, 6));
+		assertEquals(300, tableScore(10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10));
+	}
+
+	@Test
+	public void finishedGamesEndWithKnownScores() {
+		long[] perfect = space.scoreDistribution(play(10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10)
+				.getPlayerResultsTable(0));
+		long[] allSpares = space.scoreDistribution(play(5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5)
+				.getPlayerResultsTable(0));
+
+		assertEquals(1, perfect[300]);
+		assertEquals(1, Arrays.stream(perfect).sum());
+		assertEquals(1, allSpares[150]);
+		assertEquals(1, Arrays.stream(allSpares).sum());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void otherRulesAreRejected() {
+		Game game = new Game(Collections.singletonList("Player"), RuleSet.CANDLEPIN);
+		game.roll(3);
+
+		space.scoreDistribution(game.getPlayerResultsTable(0));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shortFormatIsRejected() {
+		Game game = new Game(Collections.singletonList("Player"), RuleSet.shortFormat(3));
+
+		space.scoreDistribution(game.getPlayerResultsTable(0));
+	}
+
+	@Test
+	public void countsAllDifferentGames() {
+		assertEquals(5_726_805_883_325_784_576L, space.countGames());
+	}
+
+	@Test
+	public void onlyOneGameIsPerfectAndOneIsAllGutters() {
+		long[] distribution = space.scoreDistribution();
+
+		assertEquals(1, distribution[300]);
+		assertEquals(1, distribution[0]);
+		assertEquals(1, distribution[299]);
+	}
+
+	@Test
+	public void finishedGameHasOnlyItsOwnScore() {
+		Game game = play(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 2, 8, 6);
+		long[] distribution = space.scoreDistribution(game.getPlayerResultsTable(0));
+
+		assertEquals(1, distribution[game.getPlayerScore(0)]);
+		assertEquals(1, Arrays.stream(distribution).sum());
+		assertEquals(16.0, space.expectedFinalScore(game.getPlayerResultsTable(0)), 0.0);
+	}
+
+	@Test
+	public void perfectGameIsPossibleOnlyAfterStrikes() {
+		Game game = play(10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10);
+
+		assertEquals(1.0 / 11, space.probabilityOfReaching(game.getPlayerResultsTable(0), 300), 1e-9);
+		assertEquals(0.0, space.probabilityOfReaching(play(9).getPlayerResultsTable(0), 300), 0.0);
+	}
+
+	@Test
+	public void partialGameStartsFromItsScore() {
+		Game game = play(1, 4, 6, 4, 10);
+		long[] distribution = space.scoreDistribution(game.getPlayerResultsTable(0));
+
+		for (int score = 0; score < game.getPlayerScore(0); score++) {
+			assertEquals(0, distribution[score]);
+		}
+		assertTrue(space.expectedFinalScore(game.getPlayerResultsTable(0)) > game.getPlayerScore(0));
+	}
+}
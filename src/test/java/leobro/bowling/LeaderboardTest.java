@@ -0,0 +1,120 @@
+package leobro.bowling;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+
+public class LeaderboardTest {
+
+	private Leaderboard leaderboard;
+	private Game first;
+	private Game second;
+
+	@Before
+	public void setUp() {
+		leaderboard = new Leaderboard();
+		first = new Game(Arrays.asList("Ann", "Bob"));
+		second = new Game(Arrays.asList("Cid"));
+		leaderboard.track(first);
+		leaderboard.track(second);
+	}
+
+	private static void throwSeries(Game game, int... series) {
+		for (int pins : series) {
+			game.roll(pins);
+		}
+	}
+
+	@Test
+	public void followsScoresOfAllGames() {
+		throwSeries(first, 3, 4, 10);
+		throwSeries(second, 6, 4, 5);
+
+		assertEquals(3, leaderboard.size());
+		assertEquals(1, leaderboard.getRank(second, 0));
+		assertEquals(2, leaderboard.getRank(first, 1));
+		assertEquals(3, leaderboard.getRank(first, 0));
+
+		List<Leaderboard.Standing> top = leaderboard.getTop(2);
+		assertEquals(2, top.size());
+		assertEquals("Cid", top.get(0).getPlayerName());
+		assertEquals(20, top.get(0).getScore());
+		assertEquals("Bob", top.get(1).getPlayerName());
+	}
+
+	@Test
+	public void tiedPlayersShareRankAndLead() {
+		throwSeries(first, 3, 4, 5, 2);
+		throwSeries(second, 7);
+
+		assertEquals(1, leaderboard.getRank(first, 0));
+		assertEquals(1, leaderboard.getRank(first, 1));
+		assertEquals(1, leaderboard.getRank(second, 0));
+		assertEquals(3, leaderboard.getLeaders().size());
+		assertEquals(1, leaderboard.getTop(3).get(2).getRank());
+	}
+
+	@Test
+	public void forgetsUntrackedGames() {
+		leaderboard.untrack(second);
+		throwSeries(second, 10);
+
+		assertEquals(2, leaderboard.size());
+		assertEquals(0, leaderboard.getLeaders().get(0).getScore());
+	}
+
+	@Test
+	public void followsResetGameWithOtherPlayers() {
+		throwSeries(first, 10, 10);
+		first.reset(Arrays.asList("Dan", "Eve", "Fay"));
+
+		assertEquals(4, leaderboard.size());
+		assertEquals(0, leaderboard.getLeaders().get(0).getScore());
+
+		throwSeries(first, 3, 4, 5, 4, 10);
+		assertEquals(1, leaderboard.getRank(first, 2));
+		assertEquals("Fay", leaderboard.getLeaders().get(0).getPlayerName());
+	}
+
+	@Test
+	public void forgetsGamesReleasedToPool() {
+		GamePool pool = new GamePool();
+		throwSeries(first, 10);
+		pool.release(first);
+
+		assertEquals(1, leaderboard.size());
+
+		Game reused = pool.acquire(Arrays.asList("Gus", "Hal"));
+		leaderboard.track(reused);
+		throwSeries(reused, 7);
+		assertEquals(3, leaderboard.size());
+		assertEquals(7, leaderboard.getLeaders().get(0).getScore());
+		assertEquals("Gus", leaderboard.getLeaders().get(0).getPlayerName());
+	}
+
+	@Test
+	public void forgetsGamesDroppedByFullPool() {
+		GamePool pool = new GamePool(0);
+		throwSeries(first, 10);
+		pool.release(first);
+
+		assertEquals(1, leaderboard.size());
+		assertEquals(0, pool.getIdleCount());
+	}
+
+	@Test
+	public void gameReportsAllTiedWinners() {
+		for (int i = 0; i < 20; i++) {
+			throwSeries(first, 1, 1);
+		}
+
+		assertThat(first.getWinners(), is(equalTo(Arrays.asList(0, 1))));
+		assertTrue(second.getWinners().isEmpty());
+	}
+}
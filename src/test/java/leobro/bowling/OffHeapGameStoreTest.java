@@ -0,0 +1,123 @@
+package leobro.bowling;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class OffHeapGameStoreTest {
+
+	private static final int GAMES = 200;
+
+	@Test
+	public void scoresLikeGame() {
+		OffHeapGameStore store = new OffHeapGameStore(GAMES, 3);
+		Random random = new Random(7);
+		Frame[] view = OffHeapGameStore.newResultsTable();
+
+		for (int i = 0; i < GAMES; i++) {
+			List<String> names = Arrays.asList("First " + i, "Second", "Third").subList(0, 1 + i % 3);
+			Game game = new Game(names);
+			int id = store.startGame(names);
+			int rolls = random.nextInt(70);
+
+			for (int roll = 0; roll < rolls && game.isGameActive(); roll++) {
+				assertEquals(game.getPinsStanding(), store.getPinsStanding(id));
+				int pins = random.nextInt(game.getPinsStanding() + 1);
+				game.roll(pins);
+				store.roll(id, pins);
+
+				assertEquals(game.getNextPlayer(), store.getNextPlayer(id));
+				assertEquals(game.isGameActive(), store.isGameActive(id));
+				if (game.isGameActive()) {
+					assertEquals(game.getCurrentFrame(), store.getCurrentFrame(id));
+				}
+			}
+
+			assertEquals(game.getPlayerCount(), store.getPlayerCount(id));
+			for (int player = 0; player < game.getPlayerCount(); player++) {
+				assertEquals(game.getPlayerName(player), store.getPlayerName(id, player));
+				assertEquals(game.getPlayerScore(player), store.getPlayerScore(id, player));
+				assertSameFrames(game.getPlayerResultsTable(player), store.getResultsTable(id, player, view));
+			}
+		}
+		assertEquals(GAMES, store.getGameCount());
+	}
+
+	@Test
+	public void reportsRejectedRollsAndEndOfGame() {
+		OffHeapGameStore store = new OffHeapGameStore(1, 1);
+		int game = store.startGame(Collections.singletonList("Player"));
+
+		assertEquals(RollResult.NEGATIVE_PINS, store.tryRoll(game, -1));
+		assertEquals(RollResult.TOO_MANY_PINS, store.tryRoll(game, 11));
+		store.roll(game, 6);
+		assertEquals(RollResult.TOO_MANY_PINS_IN_FRAME, store.tryRoll(game, 5));
+		try {
+			store.roll(game, 5);
+			fail();
+		} catch (RollRejectedException e) {
+			assertEquals(RollResult.TOO_MANY_PINS_IN_FRAME, e.getResult());
+		}
+
+		for (int i = 0; i < 19; i++) {
+			store.roll(game, 0);
+		}
+		assertFalse(store.isGameActive(game));
+		assertEquals(RollResult.GAME_OVER, store.tryRoll(game, 0));
+		assertEquals(6, store.getPlayerScore(game, 0));
+	}
+
+	@Test
+	public void reusesReleasedRecords() {
+		OffHeapGameStore store = new OffHeapGameStore(2, 2);
+		int first = store.startGame(Arrays.asList("A", "B"));
+		int second = store.startGame(Collections.singletonList("C"));
+		store.roll(first, 10);
+
+		store.release(first);
+		int third = store.startGame(Collections.singletonList("D"));
+
+		assertEquals(first, third);
+		assertNotEquals(first, second);
+		assertEquals(0, store.getPlayerScore(third, 0));
+		assertEquals("D", store.getPlayerName(third, 0));
+		assertEquals(1, store.getPlayerCount(third));
+		assertEquals(2L * OffHeapGameStore.recordSize(2), store.getFootprint());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void failsWhenFull() {
+		OffHeapGameStore store = new OffHeapGameStore(1, 1);
+		store.startGame(Collections.singletonList("A"));
+		store.startGame(Collections.singletonList("B"));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void releasedGameCanNotBeRead() {
+		OffHeapGameStore store = new OffHeapGameStore(1, 1);
+		int game = store.startGame(Collections.singletonList("A"));
+		store.release(game);
+		store.getPlayerScore(game, 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsTooLongName() {
+		new OffHeapGameStore(1, 1).startGame(Collections.singletonList("A name which does not fit the record"));
+	}
+
+	private static void assertSameFrames(Frame[] expected, Frame[] actual) {
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i].getDisplaySlots(), actual[i].getDisplaySlots());
+			assertEquals(expected[i].getScore(), actual[i].getScore());
+			assertEquals(expected[i].getAccumulatedScore(), actual[i].getAccumulatedScore());
+			assertEquals(expected[i].containsStrike(), actual[i].containsStrike());
+			assertEquals(expected[i].containsSpare(), actual[i].containsSpare());
+			assertEquals(expected[i].isComplete(), actual[i].isComplete());
+		}
+	}
+}
@@ -0,0 +1,161 @@
+package leobro.bowling;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.*;
+
+public class RuleSetTest {
+
+	private static Game play(RuleSet rules, int... rolls) {
+		Game game = new Game(Collections.singletonList("A"), rules);
+		for (int pins : rolls) {
+			game.roll(pins);
+		}
+		return game;
+	}
+
+	private static List<String> slots(Game game, int frame) {
+		return game.getPlayerResultsTable(0)[frame].getDisplaySlots();
+	}
+
+	@Test
+	public void tenPinValuesGiveTheTenPinRules() {
+		assertThat(RuleSet.of(10, 10, 2, 2, 1, true), is(sameInstance(RuleSet.TEN_PIN)));
+		assertThat(RuleSet.shortFormat(10), is(sameInstance(RuleSet.TEN_PIN)));
+		assertThat(new Game(Collections.singletonList("A")).getRuleSet(), is(sameInstance(RuleSet.TEN_PIN)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void valuesBeyondTheLimitsAreRejected() {
+		RuleSet.of(10, 11, 2, 2, 1, true);
+	}
+
+	@Test
+	public void ninePinPerfectGameScores270() {
+		Game game = play(RuleSet.NINE_PIN, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9);
+
+		assertFalse(game.isGameActive());
+		assertThat(game.getPlayerScore(0), is(270));
+		assertThat(slots(game, 0), is(equalTo(Arrays.asList("", "X"))));
+		assertThat(slots(game, 9), is(equalTo(Arrays.asList("X", "X", "X"))));
+	}
+
+	@Test
+	public void ninePinRackHasNinePins() {
+		Game game = play(RuleSet.NINE_PIN);
+
+		assertThat(game.tryRoll(10), is(RollResult.TOO_MANY_PINS));
+		assertThat(game.tryRoll(5), is(RollResult.ACCEPTED));
+		assertThat(game.tryRoll(5), is(RollResult.TOO_MANY_PINS_IN_FRAME));
+		assertThat(game.tryRoll(4), is(RollResult.ACCEPTED));
+		assertThat(slots(game, 0), is(equalTo(Arrays.asList("5", "/"))));
+	}
+
+	@Test
+	public void candlepinFrameHasThreeRolls() {
+		Game game = play(RuleSet.CANDLEPIN, 3, 4, 2, 6, 4, 5);
+
+		assertThat(slots(game, 0), is(equalTo(Arrays.asList("3", "4", "2"))));
+		assertThat(slots(game, 1), is(equalTo(Arrays.asList("6", "/", ""))));
+		assertThat(slots(game, 2), is(equalTo(Arrays.asList("5", "", ""))));
+		assertThat(game.getPlayerScore(0), is(9 + 15 + 5));
+
+		game.roll(4);
+		assertThat(slots(game, 2), is(equalTo(Arrays.asList("5", "4", ""))));
+		assertThat(game.getCurrentFrame(), is(2));
+	}
+
+	@Test
+	public void candlepinTenBoxGivesNoBonus() {
+		Game game = play(RuleSet.CANDLEPIN, 3, 4, 3, 5, 0, 0);
+
+		assertThat(game.getPlayerResultsTable(0)[0].getScore(), is(10));
+		assertThat(game.getPlayerScore(0), is(15));
+		assertThat(slots(game, 0), is(equalTo(Arrays.asList("3", "4", "/"))));
+	}
+
+	@Test
+	public void candlepinRackClearedByLaterBallIsNotStrike() {
+		Game game = play(RuleSet.CANDLEPIN, 0, 0, 10, 0, 10);
+
+		assertThat(slots(game, 0), is(equalTo(Arrays.asList("0", "0", "/"))));
+		assertThat(slots(game, 1), is(equalTo(Arrays.asList("0", "/", ""))));
+	}
+
+	@Test
+	public void candlepinLastFrameAlwaysHasThreeRolls() {
+		int[] rolls = new int[30];
+		rolls[27] = 1;
+		rolls[28] = 2;
+		rolls[29] = 3;
+		Game game = play(RuleSet.CANDLEPIN, rolls);
+
+		assertFalse(game.isGameActive());
+		assertThat(game.getPlayerScore(0), is(6));
+	}
+
+	@Test
+	public void shortFormatEndsAfterItsFrames() {
+		Game game = play(RuleSet.shortFormat(3), 10, 10, 7, 3, 10);
+
+		assertFalse(game.isGameActive());
+		assertThat(game.getPlayerResultsTable(0).length, is(3));
+		assertThat(game.getPlayerScore(0), is(27 + 20 + 20));
+		assertThat(slots(game, 2), is(equalTo(Arrays.asList("7", "/", "X"))));
+	}
+
+	@Test
+	public void lastFrameWithoutFillRollsHasNoBonus() {
+		Game game = play(RuleSet.of(10, 2, 2, 2, 1, false), 10, 10);
+
+		assertFalse(game.isGameActive());
+		assertThat(game.getPlayerScore(0), is(30));
+	}
+
+	@Test
+	public void strikeWithoutBonusRolls() {
+		Game game = play(RuleSet.of(10, 2, 2, 0, 0, true), 10, 10);
+
+		assertFalse(game.isGameActive());
+		assertThat(game.getPlayerScore(0), is(20));
+	}
+
+	@Test
+	public void variantGamesAreCopiedAndReset() {
+		Game game = play(RuleSet.CANDLEPIN, 10, 3);
+		Game copy = game.copy();
+		copy.roll(7);
+
+		game.reset();
+		game.roll(1);
+
+		assertThat(copy.getPlayerScore(0), is(30));
+		assertThat(copy.getRuleSet(), is(sameInstance(RuleSet.CANDLEPIN)));
+		assertThat(game.getPlayerScore(0), is(1));
+		assertThat(new GameReplay(copy).forkAt(3).getPlayerScore(0), is(30));
+	}
+
+	@Test
+	public void poolKeepsTheRules() {
+		GamePool pool = new GamePool();
+		List<String> names = Collections.singletonList("A");
+		Game candlepin = pool.acquire(names, RuleSet.CANDLEPIN);
+		pool.release(candlepin);
+
+		assertThat(pool.acquire(names).getRuleSet(), is(sameInstance(RuleSet.TEN_PIN)));
+		assertThat(pool.acquire(names, RuleSet.CANDLEPIN), is(sameInstance(candlepin)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void onlyTenPinGamesAreEncoded() {
+		GameCodec.encode(play(RuleSet.NINE_PIN, 1), ByteBuffer.allocate(64));
+	}
+}
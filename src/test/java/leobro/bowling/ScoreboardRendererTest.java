@@ -0,0 +1,112 @@
+package leobro.bowling;
+
+import org.junit.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+
+public class ScoreboardRendererTest {
+
+	private static Game play(int... rolls) {
+		Game game = new Game(Collections.singletonList("A"), RuleSet.shortFormat(3));
+		for (int pins : rolls) {
+			game.roll(pins);
+		}
+		return game;
+	}
+
+	@Test
+	public void rendersTextTable() {
+		StringBuilder out = new StringBuilder();
+
+		new ScoreboardRenderer(ScoreboardRenderer.Format.TEXT).render(play(10, 7, 3, 4), out);
+
+		assertThat(out.toString(), is("A| X  20|7/  34|4   38|38\n"));
+	}
+
+	@Test
+	public void rendersJsonTable() {
+		Game game = new Game(Arrays.asList("A \"Ace\"", "B"), RuleSet.shortFormat(2));
+		game.roll(10);
+		StringBuilder out = new StringBuilder();
+
+		new ScoreboardRenderer(ScoreboardRenderer.Format.JSON).render(game, out);
+
+		assertThat(out.toString(), is("{\"players\":["
+				+ "{\"name\":\"A \\\"Ace\\\"\",\"score\":10,\"frames\":["
+				+ "{\"slots\":[\"\",\"X\"],\"score\":10},{\"slots\":[\"\",\"\"],\"score\":null}]},"
+				+ "{\"name\":\"B\",\"score\":0,\"frames\":["
+				+ "{\"slots\":[\"\",\"\"],\"score\":null},{\"slots\":[\"\",\"\"],\"score\":null}]}"
+				+ "],\"nextPlayer\":1,\"active\":true}"));
+	}
+
+	@Test
+	public void rendersChangedFramesOnly() {
+		ScoreboardRenderer renderer = new ScoreboardRenderer(ScoreboardRenderer.Format.TEXT);
+		Game game = play(10);
+		renderer.render(game, new StringBuilder());
+
+		StringBuilder out = new StringBuilder();
+		game.roll(7);
+		renderer.renderChanges(game, out);
+		assertThat(out.toString(), is("0 0  X 17\n0 1 7  24\n"));
+
+		out.setLength(0);
+		renderer.renderChanges(game, out);
+		assertThat(out.toString(), is(""));
+	}
+
+	@Test
+	public void rendersChangesOfAnotherGameInFull() {
+		ScoreboardRenderer renderer = new ScoreboardRenderer(ScoreboardRenderer.Format.JSON);
+		renderer.render(play(10), new StringBuilder());
+
+		StringBuilder out = new StringBuilder();
+		Game game = play(1);
+		game.roll(2);
+		renderer.renderChanges(game, out);
+
+		assertThat(out.toString(), is("{\"frames\":["
+				+ "{\"player\":0,\"frame\":0,\"slots\":[\"1\",\"2\"],\"score\":3},"
+				+ "{\"player\":0,\"frame\":1,\"slots\":[\"\",\"\"],\"score\":null},"
+				+ "{\"player\":0,\"frame\":2,\"slots\":[\"\",\"\"],\"score\":null}"
+				+ "],\"nextPlayer\":0,\"active\":true}"));
+	}
+
+	@Test
+	public void rendersUtf8IntoByteBuffer() {
+		Game game = new Game(Collections.singletonList("Zo\u00eb \ud83c\udfb3"), RuleSet.shortFormat(1));
+		ByteBuffer buffer = ByteBuffer.allocate(64);
+
+		new ScoreboardRenderer(ScoreboardRenderer.Format.TEXT).render(game, buffer);
+
+		buffer.flip();
+		assertThat(StandardCharsets.UTF_8.decode(buffer).toString(), is("Zo\u00eb \ud83c\udfb3|      |0\n"));
+	}
+
+	@Test
+	public void changesAreRenderedAgainAfterBufferOverflow() {
+		ScoreboardRenderer renderer = new ScoreboardRenderer(ScoreboardRenderer.Format.TEXT);
+		Game game = play(10);
+		renderer.render(game, new StringBuilder());
+		game.roll(7);
+
+		ByteBuffer small = ByteBuffer.allocate(12);
+		try {
+			renderer.renderChanges(game, small);
+			fail();
+		} catch (BufferOverflowException expected) {
+		}
+		assertThat(small.position(), is(0));
+
+		StringBuilder out = new StringBuilder();
+		renderer.renderChanges(game, out);
+		assertThat(out.toString(), is("0 0  X 17\n0 1 7  24\n"));
+	}
+}
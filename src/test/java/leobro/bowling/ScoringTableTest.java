@@ -0,0 +1,86 @@
+package leobro.bowling;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Differential test of the scoring table against {@link Game}. Every state reachable in the table is visited once,
+ * together with a roll series leading to it, and every possible roll from that state is checked by replaying the
+ * series and the roll through a real game.
+ */
+public class ScoringTableTest {
+
+	@Test
+	public void everyTransitionMatchesGame() {
+		Map<Integer, int[]> series = new HashMap<>();
+		Deque<Integer> pending = new ArrayDeque<>();
+		series.put(ScoringTable.START, new int[0]);
+		pending.add(ScoringTable.START);
+
+		while (!pending.isEmpty()) {
+			int state = pending.poll();
+			int[] rolls = series.get(state);
+
+			for (int pins = 0; pins <= ScoringTable.PINS; pins++) {
+				Game game = replay(rolls);
+				int scoreBefore = game.getPlayerScore(0);
+				int transition = ScoringTable.transition(state, pins);
+
+				boolean accepted = game.isGameActive() && game.getPlayer(0).acceptsRoll(pins);
+				assertEquals(accepted, transition != ScoringTable.INVALID);
+				if (!accepted) {
+					continue;
+				}
+
+				game.roll(pins);
+				int next = ScoringTable.nextState(transition);
+				assertEquals(game.getPlayerScore(0) - scoreBefore, ScoringTable.scoreDelta(transition));
+				assertEquals(game.isGameActive(), next != ScoringTable.FINAL);
+				if (game.isGameActive()) {
+					assertEquals(game.getCurrentFrame(), ScoringTable.frameOf(next));
+				}
+
+				if (!series.containsKey(next)) {
+					int[] extended = Arrays.copyOf(rolls, rolls.length + 1);
+					extended[rolls.length] = pins;
+					series.put(next, extended);
+					pending.add(next);
+				}
+			}
+		}
+
+		assertTrue(series.containsKey(ScoringTable.FINAL));
+	}
+
+	@Test
+	public void tableScorerMatchesKnownGames() {
+		assertEquals(300, score(10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10));
+		assertEquals(0, score(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0));
+		assertEquals(150, score(5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5));
+	}
+
+	private static int score(int... rolls) {
+		TableScorer scorer = new TableScorer();
+		for (int pins : rolls) {
+			scorer.roll(pins);
+		}
+		assertTrue(scorer.isComplete());
+		return scorer.getScore();
+	}
+
+	private static Game replay(int[] rolls) {
+		Game game = new Game(Collections.singletonList("Player"));
+		for (int pins : rolls) {
+			game.roll(pins);
+		}
+		return game;
+	}
+}
@@ -0,0 +1,77 @@
+package leobro.bowling;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TournamentStoreTest {
+
+	private static final int PLAYERS = 200;
+
+	@Test
+	public void scoresLikeGame() {
+		List<String> names = new ArrayList<>();
+		for (int i = 0; i < PLAYERS; i++) {
+			names.add("Player " + i);
+		}
+		TournamentStore store = new TournamentStore(names);
+		Random random = new Random(7);
+
+		for (int player = 0; player < PLAYERS; player++) {
+			Game game = new Game(Collections.singletonList(names.get(player)));
+			int rolls = random.nextInt(22);
+
+			for (int i = 0; i < rolls && game.isGameActive(); i++) {
+				int pins;
+				do {
+					pins = random.nextInt(11);
+				} while (!game.getPlayer(0).acceptsRoll(pins));
+
+				game.roll(pins);
+				store.roll(player, pins);
+			}
+
+			assertEquals(game.getPlayerScore(0), store.getScore(player));
+			assertEquals(!game.isGameActive(), store.isComplete(player));
+			assertSameFrames(game.getPlayerResultsTable(0), store.getResultsTable(player));
+		}
+	}
+
+	@Test
+	public void ranksPlayersByScore() {
+		TournamentStore store = new TournamentStore(Arrays.asList("A", "B", "C", "D"));
+		store.rollAll(0, new int[] {3, 4}, 0, 2);
+		store.rollAll(1, new int[] {10, 10, 10}, 0, 3);
+		store.rollAll(3, new int[] {5, 2}, 0, 2);
+
+		assertArrayEquals(new int[] {1, 0, 3, 2}, store.rank());
+		assertEquals(60, store.getMaxScore());
+		assertEquals(18.5, store.getAverageScore(), 1e-9);
+		assertEquals(2, store.getScoreHistogram()[7]);
+	}
+
+	@Test
+	public void batchStopsAtInvalidRoll() {
+		TournamentStore store = new TournamentStore(Collections.singletonList("Player"));
+
+		assertEquals(1, store.rollAll(0, new int[] {6, 5}, 0, 2));
+		assertEquals(6, store.getScore(0));
+	}
+
+	private static void assertSameFrames(Frame[] expected, Frame[] actual) {
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i].getDisplaySlots(), actual[i].getDisplaySlots());
+			assertEquals(expected[i].getScore(), actual[i].getScore());
+			assertEquals(expected[i].getAccumulatedScore(), actual[i].getAccumulatedScore());
+			assertEquals(expected[i].containsStrike(), actual[i].containsStrike());
+			assertEquals(expected[i].containsSpare(), actual[i].containsSpare());
+			assertEquals(expected[i].isComplete(), actual[i].isComplete());
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package leobro.bowling.archive;
+
+import leobro.bowling.Game;
+import leobro.bowling.RuleSet;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class RescoringTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void rescoresAllGamesInArchiveOrder() throws Exception {
+		Path archive = folder.getRoot().toPath().resolve("games.archive");
+		Path output = folder.getRoot().toPath().resolve("scores.tsv");
+		List<Game> games = writeArchive(archive, 1000);
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			RescoringReport report = Rescoring.run(archive, output, Handicap.NONE, pool, 4096, 7);
+
+			assertEquals(1000, report.getRecordCount());
+			assertEquals(1500, report.getLineCount());
+			assertTrue(report.getPeakHeapBytes() > 0);
+		} finally {
+			pool.shutdown();
+		}
+
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < games.size(); i++) {
+			Game game = games.get(i);
+			for (int player = 0; player < game.getPlayerCount(); player++) {
+				int score = game.getPlayerScore(player);
+				expected.add(i + "\t" + player + "\t" + game.getPlayerName(player) + "\t" + score + "\t0\t" + score);
+			}
+		}
+		assertEquals(expected, Files.readAllLines(output, StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void appliesHandicap() throws Exception {
+		Path archive = folder.getRoot().toPath().resolve("games.archive");
+		Path output = folder.getRoot().toPath().resolve("scores.tsv");
+		Game game = new Game(Arrays.asList("Low", "High"));
+		for (int i = 0; i < 40; i++) {
+			game.roll(i % 4 < 2 ? 2 : 4 + i % 2);
+		}
+		try (ArchiveWriter writer = ArchiveWriter.open(archive)) {
+			writer.append(game);
+		}
+
+		Rescoring.run(archive, output, (player, score) -> player.equals("Low") ? (200 - score) * 9 / 10 : 0);
+
+		assertEquals(Arrays.asList("0\t0\tLow\t40\t144\t184", "0\t1\tHigh\t90\t0\t90"),
+				Files.readAllLines(output, StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void rejectedGameLeavesNoRecord() throws Exception {
+		Path archive = folder.getRoot().toPath().resolve("games.archive");
+		Path output = folder.getRoot().toPath().resolve("scores.tsv");
+		Game ninePin = new Game(Arrays.asList("Nine"), RuleSet.NINE_PIN);
+		Game game = new Game(Arrays.asList("Ten"));
+		game.roll(7);
+		try (ArchiveWriter writer = ArchiveWriter.open(archive)) {
+			try {
+				writer.append(ninePin);
+				fail();
+			} catch (IllegalArgumentException expected) {
+			}
+			writer.append(game);
+			assertEquals(1, writer.getCount());
+		}
+
+		assertEquals(1, Rescoring.run(archive, output, Handicap.NONE).getRecordCount());
+		assertEquals(Arrays.asList("0\t0\tTen\t7\t0\t7"), Files.readAllLines(output, StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void appendsToExistingArchive() throws Exception {
+		Path archive = folder.getRoot().toPath().resolve("games.archive");
+		Path output = folder.getRoot().toPath().resolve("scores.tsv");
+		writeArchive(archive, 3);
+		writeArchive(archive, 2);
+
+		assertEquals(5, Rescoring.run(archive, output, Handicap.NONE).getRecordCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsTruncatedArchive() throws Exception {
+		Path archive = folder.getRoot().toPath().resolve("games.archive");
+		writeArchive(archive, 10);
+		byte[] bytes = Files.readAllBytes(archive);
+		Files.write(archive, Arrays.copyOf(bytes, bytes.length - 3));
+
+		Rescoring.run(archive, folder.getRoot().toPath().resolve("scores.tsv"), Handicap.NONE);
+	}
+
+	private static List<Game> writeArchive(Path archive, int count) throws IOException {
+		SplittableRandom random = new SplittableRandom(count);
+		List<Game> games = new ArrayList<>();
+
+		try (ArchiveWriter writer = ArchiveWriter.open(archive)) {
+			for (int i = 0; i < count; i++) {
+				Game game = new Game(i % 2 == 0 ? Arrays.asList("Player " + i) : Arrays.asList("First", "Second"));
+				while (game.isGameActive()) {
+					game.roll(random.nextInt(game.getPinsStanding() + 1));
+				}
+				writer.append(game);
+				games.add(game);
+			}
+			assertEquals(count, writer.getCount());
+		}
+		return games;
+	}
+}
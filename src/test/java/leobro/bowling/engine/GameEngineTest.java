@@ -0,0 +1,82 @@
+package leobro.bowling.engine;
+
+import leobro.bowling.Game;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.*;
+
+public class GameEngineTest {
+
+	private static final int LANES = 50;
+
+	private GameEngine engine;
+
+	@Before
+	public void setUp() {
+		engine = new GameEngine(4);
+	}
+
+	@After
+	public void tearDown() {
+		engine.close();
+	}
+
+	@Test
+	public void canPlayManyLanesConcurrently() throws Exception {
+		for (int lane = 0; lane < LANES; lane++) {
+			engine.startGame("lane-" + lane, Arrays.asList("First", "Second"));
+		}
+
+		List<Thread> feeders = new ArrayList<>();
+		for (int lane = 0; lane < LANES; lane++) {
+			String laneId = "lane-" + lane;
+			Thread feeder = new Thread(() -> {
+				for (int i = 0; i < 24; i++) {
+					engine.roll(laneId, 10);
+				}
+			});
+			feeders.add(feeder);
+			feeder.start();
+		}
+		for (Thread feeder : feeders) {
+			feeder.join();
+		}
+
+		for (int lane = 0; lane < LANES; lane++) {
+			String laneId = "lane-" + lane;
+			assertEquals(Integer.valueOf(300), engine.query(laneId, game -> game.getPlayerScore(0)).get());
+			assertEquals(Integer.valueOf(300), engine.query(laneId, game -> game.getPlayerScore(1)).get());
+			assertFalse(engine.query(laneId, Game::isGameActive).get());
+		}
+		assertEquals(LANES, engine.getGameCount());
+	}
+
+	@Test
+	public void invalidRollCompletesExceptionally() throws Exception {
+		engine.startGame("lane", Arrays.asList("Player"));
+		engine.roll("lane", 6);
+		CompletableFuture<Void> roll = engine.roll("lane", 5);
+
+		try {
+			roll.get();
+			fail();
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof InvalidParameterException);
+		}
+		assertEquals(Integer.valueOf(6), engine.query("lane", game -> game.getPlayerScore(0)).get());
+	}
+
+	@Test(expected = ExecutionException.class)
+	public void rollOnUnknownLaneFails() throws Exception {
+		engine.roll("unknown", 1).get();
+	}
+}
@@ -0,0 +1,138 @@
+package leobro.bowling.journal;
+
+import leobro.bowling.Game;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+
+public class RollJournalTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void canRecoverGamesInProgress() throws Exception {
+		Path file = folder.getRoot().toPath().resolve("rolls.journal");
+		Game first = new Game(Arrays.asList("First", "Second"));
+		Game second = new Game(Arrays.asList("Single"));
+
+		try (RollJournal journal = RollJournal.open(file, 256, 8)) {
+			journal.gameStarted(1, first);
+			journal.gameStarted(2, second);
+			for (int i = 0; i < 100; i++) {
+				journal.roll(1, first, 1);
+			}
+			journal.roll(2, second, 10);
+			journal.roll(2, second, 7);
+		}
+
+		Map<Long, Game> games = RollJournal.recover(file);
+
+		assertThat(games.keySet(), is(equalTo(new LinkedHashSet<>(Arrays.asList(1L, 2L)))));
+		assertFalse(games.get(1L).isGameActive());
+		assertEquals(20, games.get(1L).getPlayerScore(1));
+		assertEquals(24, games.get(2L).getPlayerScore(0));
+		assertEquals(1, games.get(2L).getCurrentFrame());
+	}
+
+	@Test
+	public void canAppendAfterReopeningAndForgetFinishedGames() throws Exception {
+		Path file = folder.getRoot().toPath().resolve("rolls.journal");
+		Game game = new Game(Arrays.asList("Player"));
+
+		try (RollJournal journal = RollJournal.open(file, 4096, 8)) {
+			journal.gameStarted(7, game);
+			journal.roll(7, game, 3);
+		}
+		try (RollJournal journal = RollJournal.open(file, 4096, 8)) {
+			journal.roll(7, game, 4);
+			Game finished = new Game(Arrays.asList("Gone"));
+			journal.gameStarted(8, finished);
+			journal.gameFinished(8);
+		}
+
+		Map<Long, Game> games = RollJournal.recover(file);
+
+		assertEquals(1, games.size());
+		assertEquals(7, games.get(7L).getPlayerScore(0));
+		assertEquals(1, games.get(7L).getCurrentFrame());
+	}
+
+	@Test
+	public void rejectedRollIsNotRecorded() throws Exception {
+		Path file = folder.getRoot().toPath().resolve("rolls.journal");
+		Game game = new Game(Arrays.asList("Player"));
+
+		try (RollJournal journal = RollJournal.open(file)) {
+			journal.gameStarted(1, game);
+			journal.roll(1, game, 6);
+			try {
+				journal.roll(1, game, 5);
+				fail();
+			} catch (RuntimeException expected) {
+			}
+			journal.roll(1, game, 4);
+		}
+
+		assertEquals(10, RollJournal.recover(file).get(1L).getPlayerScore(0));
+	}
+
+	@Test
+	public void recoveryStopsAtTornRecord() throws Exception {
+		Path file = folder.getRoot().toPath().resolve("rolls.journal");
+		Game game = new Game(Arrays.asList("Player"));
+
+		try (RollJournal journal = RollJournal.open(file, 4096, 8)) {
+			journal.gameStarted(1, game);
+			journal.roll(1, game, 3);
+			journal.roll(1, game, 4);
+		}
+		int secondRoll = 26 + 16;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.wrap(new byte[] {5}), secondRoll + 11);
+		}
+
+		assertEquals(3, RollJournal.recover(file).get(1L).getPlayerScore(0));
+
+		Game recovered = RollJournal.recover(file).get(1L);
+		try (RollJournal journal = RollJournal.open(file, 4096, 8)) {
+			journal.roll(1, recovered, 5);
+		}
+		assertEquals(8, RollJournal.recover(file).get(1L).getPlayerScore(0));
+	}
+
+	@Test
+	public void gameTooLargeForRecordIsRejected() throws Exception {
+		Path file = folder.getRoot().toPath().resolve("rolls.journal");
+		char[] name = new char[20000];
+		Arrays.fill(name, 'a');
+		Game large = new Game(Arrays.asList(new String(name), new String(name)));
+		Game game = new Game(Arrays.asList("Player"));
+
+		try (RollJournal journal = RollJournal.open(file)) {
+			try {
+				journal.gameStarted(1, large);
+				fail();
+			} catch (IllegalArgumentException expected) {
+			}
+			journal.gameStarted(2, game);
+			journal.roll(2, game, 7);
+		}
+
+		Map<Long, Game> games = RollJournal.recover(file);
+		assertThat(games.keySet(), is(equalTo(new LinkedHashSet<>(Arrays.asList(2L)))));
+		assertEquals(7, games.get(2L).getPlayerScore(0));
+	}
+}
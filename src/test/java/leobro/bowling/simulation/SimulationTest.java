@@ -0,0 +1,80 @@
+package leobro.bowling.simulation;
+
+import leobro.bowling.Game;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+
+public class SimulationTest {
+
+	private static double[] always(int pins) {
+		double[] weights = new double[11];
+		weights[pins] = 1;
+		return weights;
+	}
+
+	@Test
+	public void perfectBowlerAlwaysScores300() {
+		ScoreHistogram histogram = Simulation.run(BowlerProfile.withSpareRate(always(10), 1), 10_000, 1);
+
+		assertThat(histogram.getGameCount(), is(10_000L));
+		assertThat(histogram.getCount(300), is(10_000L));
+		assertThat(histogram.getMean(), is(300.0));
+		assertThat(histogram.getPercentile(50), is(300));
+	}
+
+	@Test
+	public void spareBowlerScores150WithNinesAndSpares() {
+		ScoreHistogram histogram = Simulation.run(BowlerProfile.withSpareRate(always(9), 1), 100, 1);
+
+		assertThat(histogram.getCount(190), is(100L));
+	}
+
+	@Test
+	public void sameSeedGivesSameHistogramWithAnyParallelism() {
+		BowlerProfile profile = BowlerProfile.uniform();
+
+		ScoreHistogram parallel = Simulation.run(profile, 50_000, 7, new ForkJoinPool(4));
+		ScoreHistogram sequential = Simulation.run(profile, 50_000, 7, new ForkJoinPool(1));
+
+		assertArrayEquals(sequential.toArray(), parallel.toArray());
+		assertThat(parallel.getGameCount(), is(50_000L));
+		assertTrue(parallel.getPercentile(1) < parallel.getPercentile(99));
+	}
+
+	@Test
+	public void rollsAreAlwaysLegal() {
+		BowlerProfile profile = BowlerProfile.uniform();
+		SplittableRandom random = new SplittableRandom(3);
+		Game game = new Game(Collections.singletonList("A"));
+
+		for (int i = 0; i < 1000; i++) {
+			game.reset();
+			while (game.isGameActive()) {
+				int pins = profile.nextRoll(game, random);
+				assertTrue(pins >= 0 && pins <= game.getPinsStanding());
+				game.roll(pins);
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void weightsOfWrongSizeAreRejected() {
+		BowlerProfile.withSpareRate(Arrays.copyOf(always(10), 10), 0.5);
+	}
+
+	@Test
+	public void emptyHistogram() {
+		ScoreHistogram histogram = Simulation.run(BowlerProfile.uniform(), 0, 1);
+
+		assertThat(histogram.getGameCount(), is(0L));
+		assertThat(histogram.getMean(), is(0.0));
+		assertThat(histogram.getPercentile(50), is(0));
+	}
+}